@@ -0,0 +1,80 @@
+package com.prgrms.offer;
+
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.value.Category;
+import com.prgrms.offer.domain.article.model.value.ProductStatus;
+import com.prgrms.offer.domain.article.model.value.TradeMethod;
+import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.article.repository.ArticleBrief;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.message.repository.MessageRoomWithLastMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크들이 함께 쓰는 목록 한 페이지 분량의 데이터
+ * (이미지 url 은 업로드 시 만들어지는 uuid 이름이라 ImageVariant 변환까지 거치도록 함)
+ */
+public final class BenchmarkFixtures {
+
+    public static final int PAGE_SIZE = 20;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 12, 1, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<ArticleBrief> articleBriefs() {
+        TradeStatus[] tradeStatuses = TradeStatus.values();
+
+        List<ArticleBrief> articleBriefs = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            articleBriefs.add(new ArticleBrief((long) i, imageUrl(i), "title" + i, 10_000 + i, "서울시 강남구",
+                    tradeStatuses[i % tradeStatuses.length].getCode(), NOW.minusMinutes(i), NOW.minusMinutes(i)));
+        }
+        return articleBriefs;
+    }
+
+    public static Article article() {
+        Member writer = Member.builder()
+                .principal("writer@offer.com")
+                .nickname("writer")
+                .address("서울시 강남구")
+                .profileImageUrl(imageUrl(100))
+                .build();
+
+        return Article.builder()
+                .id(1L)
+                .writer(writer)
+                .title("title")
+                .content("content ".repeat(100))
+                .categoryCode(Category.BUY.getCode())
+                .tradeStatusCode(TradeStatus.COMPLETED.getCode())
+                .productStatusCode(ProductStatus.OLD.getCode())
+                .tradeMethodCode(TradeMethod.BOTH.getCode())
+                .tradeArea("서울시 강남구")
+                .quantity(1)
+                .price(10_000)
+                .mainImageUrl(imageUrl(0))
+                .likeCount(3)
+                .viewCount(42)
+                .createdDate(NOW)
+                .modifiedDate(NOW)
+                .build();
+    }
+
+    public static List<MessageRoomWithLastMessage> messageRooms() {
+        List<MessageRoomWithLastMessage> messageRooms = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            messageRooms.add(new MessageRoomWithLastMessage((long) i, "partner" + i, imageUrl(200 + i), "서울시 강남구",
+                    imageUrl(i), "last message " + i, NOW.minusMinutes(i)));
+        }
+        return messageRooms;
+    }
+
+    private static String imageUrl(int seed) {
+        return String.format("https://offer.s3.ap-northeast-2.amazonaws.com/productImage/%08x-0000-4000-8000-%012x.png", seed, seed);
+    }
+}
@@ -0,0 +1,46 @@
+package com.prgrms.offer;
+
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * repository 를 실제 DB 로 실행하는 벤치마크용 최소 context (@DataJpaTest 처럼 JPA 관련 자동 설정만 올림)
+ * 벤치마크마다 이름이 다른 H2 in-memory DB 를 쓰므로 서로의 데이터가 섞이지 않음
+ */
+@Configuration
+@ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class
+})
+@EntityScan("com.prgrms.offer.domain")
+@EnableJpaRepositories("com.prgrms.offer.domain")
+@Import(QueryDSLConfig.class)
+public class JpaBenchmarkContext {
+
+    public static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(JpaBenchmarkContext.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=warn")
+                .run();
+    }
+}
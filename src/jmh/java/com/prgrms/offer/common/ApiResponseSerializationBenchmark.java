@@ -0,0 +1,66 @@
+package com.prgrms.offer.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.prgrms.offer.BenchmarkFixtures;
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.page.PageDto;
+import com.prgrms.offer.common.page.PageInfo;
+import com.prgrms.offer.common.page.TotalCountMode;
+import com.prgrms.offer.domain.article.model.dto.ArticleBriefViewResponse;
+import com.prgrms.offer.domain.article.service.ArticleConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 응답(ApiResponse<PageDto<List<ArticleBriefViewResponse>>>, 20건)을 JSON 으로 쓰는 처리량
+ * ObjectMapper 는 Spring Boot 기본 설정과 같게 만듦 (java.time 모듈 등록, 날짜를 timestamp 로 쓰지 않음)
+ * <p>
+ * ./gradlew jmh -PjmhArgs="ApiResponseSerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private ApiResponse<PageDto<List<ArticleBriefViewResponse>>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ArticleConverter converter = new ArticleConverter();
+        List<ArticleBriefViewResponse> elements = BenchmarkFixtures.articleBriefs().stream()
+                .map(articleBrief -> converter.toArticleBriefViewResponse(articleBrief, false))
+                .collect(Collectors.toList());
+        PageInfo pageInfo = PageInfo.of(0, 50, BenchmarkFixtures.PAGE_SIZE, 1_000, false, true, TotalCountMode.EXACT);
+
+        response = ApiResponse.of(ResponseMessage.SUCCESS, PageDto.of(elements, pageInfo));
+    }
+
+    @Benchmark
+    public byte[] articleBriefPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
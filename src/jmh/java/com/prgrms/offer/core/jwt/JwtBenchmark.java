@@ -0,0 +1,69 @@
+package com.prgrms.offer.core.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 토큰 발급(sign)과 검증(verify) 처리량
+ * 검증은 인증이 필요한 모든 요청에서 실행되므로 VerifiedTokenCache 적중 시와 비교할 기준이 됨
+ * <p>
+ * ./gradlew jmh -PjmhArgs="JwtBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String[] ROLES = {"ROLE_USER"};
+
+    private static final Function<Jwt.Claims, List<GrantedAuthority>> AUTHORITIES =
+            claims -> List.of(new SimpleGrantedAuthority(ROLES[0]));
+
+    private Jwt jwt;
+    private Jwt.Claims claims;
+    private String token;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Setup
+    public void setUp() {
+        jwt = new Jwt("offer", "benchmark-client-secret-which-is-long-enough-for-hmac512", 3_600);
+        claims = Jwt.Claims.from("member@offer.com", ROLES);
+        token = jwt.sign(claims);
+
+        verifiedTokenCache = new VerifiedTokenCache(1_000);
+        verifyWithCache();
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwt.sign(claims);
+    }
+
+    @Benchmark
+    public Jwt.Claims verify() {
+        return jwt.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedTokenCache.VerifiedToken verifyWithCache() {
+        return verifiedTokenCache.verify(token, jwt::verify, AUTHORITIES);
+    }
+}
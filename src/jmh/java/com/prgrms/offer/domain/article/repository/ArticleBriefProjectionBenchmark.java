@@ -0,0 +1,115 @@
+package com.prgrms.offer.domain.article.repository;
+
+import com.prgrms.offer.JpaBenchmarkContext;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.prgrms.offer.domain.article.model.entity.QArticle.article;
+
+/**
+ * 목록 한 페이지를 Article 엔티티로 읽는 경우와 ArticleBrief projection 으로 읽는 경우의 비교
+ * 게시글 10,000개 중 앞쪽 페이지들을 차례로 읽으며, 요청처럼 페이지마다 새 (읽기 전용) 트랜잭션과 영속성 컨텍스트를 씀
+ * 엔티티 조회는 목록에서 쓰지 않는 content(TEXT) 까지 읽고 영속성 컨텍스트에 올리므로 할당량 (-prof gc 의 gc.alloc.rate.norm) 차이로 드러남
+ * <p>
+ * ./gradlew jmh -PjmhArgs="ArticleBriefProjectionBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleBriefProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGE_COUNT = 50;
+
+    @Param({"10000"})
+    private int articleCount;
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private JPAQueryFactory jpaQueryFactory;
+    private TransactionTemplate readOnlyTransaction;
+
+    private int page;
+
+    @Setup
+    public void setUp() {
+        context = JpaBenchmarkContext.start("article_brief_projection");
+        articleRepository = context.getBean(ArticleRepository.class);
+        jpaQueryFactory = context.getBean(JPAQueryFactory.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        // 목록에서는 사용하지 않는 content(TEXT) 가 실제 게시글처럼 채워져 있어야 차이가 드러남
+        String content = "상품 설명 ".repeat(200);
+
+        List<Article> articles = new ArrayList<>(articleCount);
+        for (int i = 0; i < articleCount; i++) {
+            articles.add(Article.builder()
+                    .title("title" + i)
+                    .content(content)
+                    .mainImageUrl("https://offer.com/images/" + i + ".png")
+                    .tradeArea("서울시 강남구")
+                    .categoryCode(i % 5 + 1)
+                    .tradeMethodCode(2)
+                    .tradeStatusCode(i % 3 == 0 ? 8 : 4)
+                    .price(i * 100)
+                    .likeCount(0)
+                    .viewCount(0)
+                    .build());
+        }
+        articleRepository.saveAll(articles);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Article> entityPage() {
+        int offset = nextPage() * PAGE_SIZE;
+
+        return readOnlyTransaction.execute(status -> jpaQueryFactory.selectFrom(article)
+                .orderBy(article.createdDate.desc(), article.id.desc())
+                .offset(offset)
+                .limit(PAGE_SIZE)
+                .fetch());
+    }
+
+    @Benchmark
+    public List<ArticleBrief> briefPage() {
+        PageRequest pageable = PageRequest.of(nextPage(), PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdDate"));
+
+        return readOnlyTransaction.execute(status -> articleRepository.findAllBriefs(null, null, null, pageable));
+    }
+
+    private int nextPage() {
+        page = (page + 1) % PAGE_COUNT;
+        return page;
+    }
+}
@@ -0,0 +1,169 @@
+package com.prgrms.offer.domain.article.repository;
+
+import com.prgrms.offer.JpaBenchmarkContext;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.entity.LikeArticle;
+import com.prgrms.offer.domain.article.model.entity.ProductImage;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.message.model.entity.Message;
+import com.prgrms.offer.domain.message.model.entity.MessageRoom;
+import com.prgrms.offer.domain.offer.model.entity.Offer;
+import com.prgrms.offer.domain.review.model.entity.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 제안과 쪽지가 수백 개 달린 게시글 하나를 삭제하는 시간
+ * 기존 방식 (참조를 끊는 @Modifying(clearAutomatically) update 5번 + 엔티티 삭제) 과
+ * deleteWithDetachingReferences (참조를 끊는 update 와 delete 를 JDBC batch 한 번으로 실행) 의 비교
+ * 삭제할 게시글은 매 iteration 전에 만들고, 삭제는 ArticleService.deleteOne 처럼 게시글을 조회한 뒤 트랜잭션 하나에서 실행
+ * <p>
+ * ./gradlew jmh -PjmhArgs="ArticleDeleteBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ArticleDeleteBenchmark {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int MESSAGE_ROOMS_PER_ARTICLE = 30;
+    private static final int LIKES_PER_ARTICLE = 30;
+    private static final int IMAGES_PER_ARTICLE = 3;
+    private static final int REVIEWS_PER_ARTICLE = 5;
+
+    private static final List<String> REFERENCING_ENTITIES = List.of("ProductImage", "LikeArticle", "Offer", "Review", "MessageRoom");
+
+    @Param({"100", "300"})
+    private int offersPerArticle;
+
+    @Param({"10"})
+    private int messagesPerRoom;
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+
+    private List<Member> members;
+    private Long articleId;
+
+    @Setup
+    public void setUp() {
+        context = JpaBenchmarkContext.start("article_delete");
+        articleRepository = context.getBean(ArticleRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        members = transaction.execute(status -> {
+            List<Member> saved = new ArrayList<>();
+            for (int i = 0; i < MEMBER_COUNT; i++) {
+                Member member = Member.builder().principal("member" + i + "@offer.com").nickname("member" + i).offerLevel(1).build();
+                entityManager.persist(member);
+                saved.add(member);
+            }
+            return saved;
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void createArticle() {
+        articleId = transaction.execute(status -> persistArticleWithReferences());
+    }
+
+    @Benchmark
+    public void perTableUpdates() {
+        transaction.executeWithoutResult(status -> {
+            Article article = articleRepository.findById(articleId).orElseThrow();
+            for (String entityName : REFERENCING_ENTITIES) {
+                entityManager.createQuery("UPDATE " + entityName + " e SET e.article = NULL WHERE e.article = :article")
+                        .setParameter("article", article)
+                        .executeUpdate();
+                entityManager.clear();
+            }
+            articleRepository.delete(entityManager.merge(article));
+        });
+    }
+
+    @Benchmark
+    public void batchedDelete() {
+        transaction.executeWithoutResult(status ->
+                articleRepository.deleteWithDetachingReferences(articleRepository.findById(articleId).orElseThrow()));
+    }
+
+    private Long persistArticleWithReferences() {
+        Article article = Article.builder()
+                .writer(entityManager.getReference(Member.class, members.get(0).getId()))
+                .title("title")
+                .content("content")
+                .tradeStatusCode(2)
+                .likeCount(LIKES_PER_ARTICLE)
+                .viewCount(0)
+                .createdDate(LocalDateTime.now())
+                .build();
+        entityManager.persist(article);
+
+        List<Offer> offers = new ArrayList<>();
+        for (int i = 0; i < offersPerArticle; i++) {
+            Offer offer = Offer.builder().article(article).offerer(member(i))
+                    .price(i).isSelected(false).createdDate(LocalDateTime.now()).build();
+            entityManager.persist(offer);
+            offers.add(offer);
+        }
+
+        for (int i = 0; i < MESSAGE_ROOMS_PER_ARTICLE; i++) {
+            MessageRoom messageRoom = new MessageRoom(member(i), member(i + 1), article, offers.get(i % offers.size()));
+            entityManager.persist(messageRoom);
+            for (int j = 0; j < messagesPerRoom; j++) {
+                entityManager.persist(Message.builder().messageRoom(messageRoom).content("message" + j)
+                        .isSendMessage(j % 2 == 0).createdDate(LocalDateTime.now()).build());
+            }
+        }
+
+        for (int i = 0; i < LIKES_PER_ARTICLE; i++) {
+            entityManager.persist(new LikeArticle(member(i), article));
+        }
+        for (int i = 0; i < IMAGES_PER_ARTICLE; i++) {
+            entityManager.persist(new ProductImage("https://offer.com/images/" + i + ".png", article));
+        }
+        for (int i = 0; i < REVIEWS_PER_ARTICLE; i++) {
+            entityManager.persist(Review.builder().reviewer(member(i)).reviewee(member(i + 1))
+                    .article(article).score(1).isRevieweeBuyer(true).createdDate(LocalDateTime.now()).build());
+        }
+
+        return article.getId();
+    }
+
+    private Member member(int index) {
+        return entityManager.getReference(Member.class, members.get(index % MEMBER_COUNT).getId());
+    }
+}
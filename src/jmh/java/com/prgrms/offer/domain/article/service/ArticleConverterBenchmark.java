@@ -0,0 +1,126 @@
+package com.prgrms.offer.domain.article.service;
+
+import com.prgrms.offer.BenchmarkFixtures;
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.utils.ImageVariant;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.domain.article.model.dto.ArticleBriefViewResponse;
+import com.prgrms.offer.domain.article.model.dto.ArticleDetailResponse;
+import com.prgrms.offer.domain.article.model.dto.CodeAndName;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.value.Category;
+import com.prgrms.offer.domain.article.model.value.ProductStatus;
+import com.prgrms.offer.domain.article.model.value.TradeMethod;
+import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.article.repository.ArticleBrief;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 목록 한 페이지(20건)와 상세 응답을 만드는 처리량 비교
+ * *WithStreamLookup 은 코드 조회 테이블 도입 이전의 방식 (values() 를 stream 으로 찾고, 필드마다 두 번 조회해 CodeAndName 을 새로 만듦)
+ * <p>
+ * ./gradlew jmh -PjmhArgs="ArticleConverterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleConverterBenchmark {
+
+    private final ArticleConverter converter = new ArticleConverter();
+
+    private List<ArticleBrief> page;
+    private Article article;
+    private ArticleDetailResponse.ArticleDto detail;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.articleBriefs();
+        article = BenchmarkFixtures.article();
+        detail = converter.toArticleDetail(article);
+    }
+
+    @Benchmark
+    public void briefPage(Blackhole blackhole) {
+        for (ArticleBrief articleBrief : page) {
+            blackhole.consume(converter.toArticleBriefViewResponse(articleBrief, false));
+        }
+    }
+
+    @Benchmark
+    public void briefPageWithStreamLookup(Blackhole blackhole) {
+        for (ArticleBrief articleBrief : page) {
+            blackhole.consume(ArticleBriefViewResponse.builder()
+                    .id(articleBrief.getId())
+                    .mainImageUrl(ImageVariant.LIST.urlOf(articleBrief.getMainImageUrl()))
+                    .title(articleBrief.getTitle())
+                    .price(articleBrief.getPrice())
+                    .tradeArea(articleBrief.getTradeArea())
+                    .createdDate(articleBrief.getCreatedDate())
+                    .modifiedDate(articleBrief.getModifiedDate())
+                    .isLiked(false)
+                    .tradeStatus(streamCodeAndName(TradeStatus.values(), TradeStatus::getCode, TradeStatus::getName, articleBrief.getTradeStatusCode()))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Object detail() {
+        return converter.toArticleDetail(article);
+    }
+
+    // 캐시된 상세 정보에 요청별 값(좋아요 여부, 조회수)을 더해 응답을 만드는 비용
+    @Benchmark
+    public Object detailResponse() {
+        return converter.toArticleDetailResponse(detail, true, 43);
+    }
+
+    // 상세 응답 중 코드 4개를 조회하는 부분만 이전 방식으로 수행 (나머지 필드 복사 비용은 detail 과 같음)
+    @Benchmark
+    public void detailCodesWithStreamLookup(Blackhole blackhole) {
+        blackhole.consume(streamCodeAndName(Category.values(), Category::getCode, Category::getName, article.getCategoryCode()));
+        blackhole.consume(streamCodeAndName(TradeStatus.values(), TradeStatus::getCode, TradeStatus::getName, article.getTradeStatusCode()));
+        blackhole.consume(streamCodeAndName(ProductStatus.values(), ProductStatus::getCode, ProductStatus::getName, article.getProductStatusCode()));
+        blackhole.consume(streamCodeAndName(TradeMethod.values(), TradeMethod::getCode, TradeMethod::getName, article.getTradeMethodCode()));
+    }
+
+    @Benchmark
+    public void detailCodes(Blackhole blackhole) {
+        blackhole.consume(Category.of(article.getCategoryCode()).getCodeAndName());
+        blackhole.consume(TradeStatus.of(article.getTradeStatusCode()).getCodeAndName());
+        blackhole.consume(ProductStatus.of(article.getProductStatusCode()).getCodeAndName());
+        blackhole.consume(TradeMethod.of(article.getTradeMethodCode()).getCodeAndName());
+    }
+
+    private static <E> CodeAndName streamCodeAndName(E[] values, ToIntFunction<E> codeOf, Function<E, String> nameOf, int code) {
+        return new CodeAndName(
+                codeOf.applyAsInt(streamOf(values, codeOf, code)),
+                nameOf.apply(streamOf(values, codeOf, code))
+        );
+    }
+
+    private static <E> E streamOf(E[] values, ToIntFunction<E> codeOf, int code) {
+        return Arrays.stream(values)
+                .filter(v -> codeOf.applyAsInt(v) == code)
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ResponseMessage.TRADE_STATUS_NOT_FOUND));
+    }
+}
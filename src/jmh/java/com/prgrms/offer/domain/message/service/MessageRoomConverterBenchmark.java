@@ -0,0 +1,48 @@
+package com.prgrms.offer.domain.message.service;
+
+import com.prgrms.offer.BenchmarkFixtures;
+import com.prgrms.offer.domain.message.repository.MessageRoomWithLastMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쪽지함 목록 한 페이지(20건)를 응답으로 바꾸는 처리량
+ * <p>
+ * ./gradlew jmh -PjmhArgs="MessageRoomConverterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageRoomConverterBenchmark {
+
+    private final MessageRoomConverter converter = new MessageRoomConverter();
+
+    private Page<MessageRoomWithLastMessage> messageRoomPage;
+
+    @Setup
+    public void setUp() {
+        messageRoomPage = new PageImpl<>(
+                BenchmarkFixtures.messageRooms(), PageRequest.of(0, BenchmarkFixtures.PAGE_SIZE), 1_000);
+    }
+
+    @Benchmark
+    public Object messageRoomResponsePage() {
+        return converter.toMessageRoomResponsePage(messageRoomPage);
+    }
+}
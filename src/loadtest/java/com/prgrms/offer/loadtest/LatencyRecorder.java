@@ -0,0 +1,108 @@
+package com.prgrms.offer.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * endpoint 하나의 응답 시간(µs)과 응답 결과를 모아 두는 기록
+ * 가상 사용자마다 따로 두어 측정 중에는 동기화 없이 기록하고, 끝난 뒤 merge 해서 백분위를 계산함
+ * 검증에서 바로 거절되는 4xx 는 정상 처리보다 훨씬 빠르므로, 응답 시간은 2xx 와 4xx 를 나누어 모음
+ */
+final class LatencyRecorder {
+
+    private final Latencies successes = new Latencies();
+    private final Latencies clientErrors = new Latencies();
+    private final Latencies failures = new Latencies();
+
+    void record(long latencyMicros, int status) {
+        if (status >= 200 && status < 300) {
+            successes.add(latencyMicros);
+        } else if (status >= 400 && status < 500) {
+            clientErrors.add(latencyMicros);
+        } else {
+            failures.add(latencyMicros);
+        }
+    }
+
+    // 응답을 받지 못한 경우 (timeout, 연결 실패)
+    void recordFailure(long latencyMicros) {
+        record(latencyMicros, 0);
+    }
+
+    static Summary summarize(List<LatencyRecorder> recorders, double measuredSeconds) {
+        long[] successes = merge(recorders, recorder -> recorder.successes);
+        long[] clientErrors = merge(recorders, recorder -> recorder.clientErrors);
+        int failures = recorders.stream().mapToInt(recorder -> recorder.failures.count).sum();
+        int total = successes.length + clientErrors.length + failures;
+
+        return new Summary(total, successes.length, clientErrors.length, failures, total / measuredSeconds,
+                percentile(successes, 50), percentile(successes, 99), successes.length == 0 ? 0 : successes[successes.length - 1],
+                percentile(clientErrors, 50), percentile(clientErrors, 99));
+    }
+
+    private static long[] merge(List<LatencyRecorder> recorders, Function<LatencyRecorder, Latencies> latenciesOf) {
+        int total = recorders.stream().mapToInt(recorder -> latenciesOf.apply(recorder).count).sum();
+        long[] merged = new long[total];
+        int position = 0;
+        for (LatencyRecorder recorder : recorders) {
+            Latencies latencies = latenciesOf.apply(recorder);
+            System.arraycopy(latencies.values, 0, merged, position, latencies.count);
+            position += latencies.count;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    // nearest-rank 방식
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static final class Latencies {
+
+        private long[] values = new long[1_024];
+        private int count;
+
+        private void add(long latencyMicros) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = latencyMicros;
+        }
+    }
+
+    static final class Summary {
+
+        final int requests;
+        final int successes;
+        final int clientErrors;
+        final int failures;
+        final double throughput;
+        // 2xx 응답만의 응답 시간
+        final long p50Micros;
+        final long p99Micros;
+        final long maxMicros;
+        // 4xx 응답만의 응답 시간
+        final long clientErrorP50Micros;
+        final long clientErrorP99Micros;
+
+        private Summary(int requests, int successes, int clientErrors, int failures, double throughput,
+                        long p50Micros, long p99Micros, long maxMicros, long clientErrorP50Micros, long clientErrorP99Micros) {
+            this.requests = requests;
+            this.successes = successes;
+            this.clientErrors = clientErrors;
+            this.failures = failures;
+            this.throughput = throughput;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+            this.clientErrorP50Micros = clientErrorP50Micros;
+            this.clientErrorP99Micros = clientErrorP99Micros;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.prgrms.offer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.offer.domain.article.model.value.Category;
+import com.prgrms.offer.domain.article.model.value.TradeMethod;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SeedDataGenerator 로 만든 회원들로 로그인한 가상 사용자들이 정해진 비율로 API 를 호출하는 부하 발생기
+ * 가상 사용자 하나는 스레드 하나로, 응답을 받으면 think time 만큼 쉬고 다음 요청을 보냄 (closed model)
+ * warmup 동안의 요청은 집계하지 않고, 끝나면 endpoint 별 처리량과 p50/p99 응답 시간 (2xx, 4xx 따로) 을 출력함
+ * 가격 제안은 회원마다 게시글당 횟수가 제한되므로, 가상 사용자마다 서로 다른 목록 페이지에서 제안할 게시글을 모으고
+ * 게시글마다 max_offers_per_article 번까지 다른 가격으로 제안한 뒤 다음 게시글로 넘어감 (거절되면 바로 넘어감)
+ * 애플리케이션은 모든 요청에 https 를 요구하므로, TLS 없이 띄운 서버에는 X-Forwarded-Proto 를 붙여 보냄
+ * (서버를 server.forward-headers-strategy=native 로 띄워야 함, 보내지 않으려면 loadtest.forwarded_proto=none)
+ * <p>
+ * ./gradlew loadTest -Ploadtest.base_url=http://localhost:8080 -Ploadtest.users=100 -Ploadtest.duration_seconds=120
+ * -Ploadtest.first_member_id=1 -Ploadtest.mix=articles=50,search_filters=25,message_box=15,offer=10
+ * -Ploadtest.max_offers_per_article=2
+ */
+public class LoadDriver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final int PAGE_SIZE = 20;
+
+    enum Endpoint {
+        ARTICLES("GET  /api/v1/articles"),
+        SEARCH_FILTERS("GET  /api/v1/search/filters"),
+        MESSAGE_BOX("GET  /api/v1/messages/messageBox"),
+        OFFER("POST /api/v1/articles/{id}/offers");
+
+        private final String description;
+
+        Endpoint(String description) {
+            this.description = description;
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String tokenHeader;
+    private final String forwardedProto;
+    private final Duration requestTimeout;
+    private final int users;
+    private final long firstMemberId;
+    private final String password;
+    private final long warmupNanos;
+    private final long durationNanos;
+    private final long thinkTimeMillis;
+    private final int maxOffersPerArticle;
+    private final Endpoint[] mix;
+
+    public LoadDriver() {
+        this.baseUrl = LoadTestProperties.getString("base_url", "http://localhost:8080");
+        this.tokenHeader = LoadTestProperties.getString("token_header", "Authorization");
+        this.forwardedProto = LoadTestProperties.getString("forwarded_proto", "https");
+        this.requestTimeout = Duration.ofMillis(LoadTestProperties.getNonNegativeInt("request_timeout_ms", 10_000));
+        this.users = LoadTestProperties.getNonNegativeInt("users", 50);
+        this.firstMemberId = LoadTestProperties.getNonNegativeInt("first_member_id", 1);
+        this.password = LoadTestProperties.getString("password", SeedDataGenerator.DEFAULT_PASSWORD);
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(LoadTestProperties.getNonNegativeInt("warmup_seconds", 10));
+        this.durationNanos = TimeUnit.SECONDS.toNanos(LoadTestProperties.getNonNegativeInt("duration_seconds", 60));
+        this.thinkTimeMillis = LoadTestProperties.getNonNegativeInt("think_time_ms", 100);
+        // 서버의 offer.max_avail_offer_count 와 맞춤
+        this.maxOffersPerArticle = LoadTestProperties.getNonNegativeInt("max_offers_per_article", 2);
+        this.mix = parseMix(LoadTestProperties.getString("mix", "articles=50,search_filters=25,message_box=15,offer=10"));
+
+        if (users == 0 || durationNanos == 0 || maxOffersPerArticle == 0) {
+            throw new IllegalArgumentException("users, duration_seconds and max_offers_per_article must be positive");
+        }
+
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .executor(Executors.newFixedThreadPool(Math.min(users, 16), daemonThreads("loadtest-http-")))
+                .build();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        new LoadDriver().run();
+    }
+
+    public void run() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(users, daemonThreads("loadtest-user-"));
+        CountDownLatch loggedIn = new CountDownLatch(users);
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        AtomicInteger loginFailures = new AtomicInteger();
+
+        // 로그인까지 마친 뒤 모두 같은 시각에 시작
+        long[] startAt = new long[1];
+        CountDownLatch started = new CountDownLatch(1);
+        for (int i = 0; i < users; i++) {
+            VirtualUser virtualUser = new VirtualUser(i, firstMemberId + i);
+            virtualUsers.add(virtualUser);
+            executorService.execute(() -> {
+                try {
+                    virtualUser.login();
+                } catch (Exception e) {
+                    loginFailures.incrementAndGet();
+                    System.err.println("login failed: " + virtualUser.principal + " (" + e.getMessage() + ")");
+                    return;
+                } finally {
+                    loggedIn.countDown();
+                }
+
+                try {
+                    started.await();
+                    virtualUser.run(startAt[0]);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        loggedIn.await();
+        if (loginFailures.get() == users) {
+            executorService.shutdownNow();
+            throw new IllegalStateException("no virtual user could log in; check loadtest.first_member_id and loadtest.password");
+        }
+
+        System.out.printf("%d virtual users (%d login failures), warmup %ds, measure %ds%n", users - loginFailures.get(),
+                loginFailures.get(), TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+        startAt[0] = System.nanoTime();
+        started.countDown();
+
+        executorService.shutdown();
+        executorService.awaitTermination(warmupNanos + durationNanos + requestTimeout.toNanos() * 2, TimeUnit.NANOSECONDS);
+        executorService.shutdownNow();
+
+        report(virtualUsers);
+    }
+
+    private void report(List<VirtualUser> virtualUsers) {
+        double measuredSeconds = durationNanos / 1e9;
+
+        System.out.printf("%n%-36s %9s %9s %7s %7s %11s %10s %10s %10s %12s %12s%n",
+                "endpoint", "requests", "2xx", "4xx", "error", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "4xx p50(ms)", "4xx p99(ms)");
+        for (Endpoint endpoint : Endpoint.values()) {
+            List<LatencyRecorder> recorders = new ArrayList<>();
+            virtualUsers.forEach(virtualUser -> recorders.add(virtualUser.recorders.get(endpoint)));
+            LatencyRecorder.Summary summary = LatencyRecorder.summarize(recorders, measuredSeconds);
+
+            System.out.printf("%-36s %9d %9d %7d %7d %11.1f %10.2f %10.2f %10.2f %12.2f %12.2f%n", endpoint.description,
+                    summary.requests, summary.successes, summary.clientErrors, summary.failures, summary.throughput,
+                    summary.p50Micros / 1e3, summary.p99Micros / 1e3, summary.maxMicros / 1e3,
+                    summary.clientErrorP50Micros / 1e3, summary.clientErrorP99Micros / 1e3);
+        }
+        System.out.println("p50/p99/max are for 2xx responses only; 4xx latencies are reported separately");
+    }
+
+    private class VirtualUser {
+
+        private final String principal;
+        private final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+
+        private String token;
+
+        // 아직 제안할 수 있는 게시글 id 와 이 사용자가 게시글마다 제안한 횟수
+        private final Deque<Long> offerTargets = new ArrayDeque<>();
+        private final Map<Long, Integer> offerCounts = new HashMap<>();
+
+        // 제안할 게시글을 모으는 목록 페이지, 처음에는 users 개씩 건너뛰어 가상 사용자끼리 겹치지 않게 함
+        private int offerPage;
+        private int offerPageStride;
+
+        private VirtualUser(int index, long memberId) {
+            this.principal = SeedDataGenerator.principalOf(memberId);
+            this.offerPage = index;
+            this.offerPageStride = users;
+            for (Endpoint endpoint : Endpoint.values()) {
+                recorders.put(endpoint, new LatencyRecorder());
+            }
+        }
+
+        private void login() throws IOException, InterruptedException {
+            String body = OBJECT_MAPPER.writeValueAsString(Map.of("email", principal, "password", password));
+            HttpResponse<String> response = httpClient.send(newRequest(URI.create(baseUrl + "/api/v1/members/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() / 100 == 3) {
+                throw new IllegalStateException("redirected to " + response.headers().firstValue("Location").orElse("?")
+                        + "; check loadtest.forwarded_proto and server.forward-headers-strategy");
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("status " + response.statusCode());
+            }
+            token = OBJECT_MAPPER.readTree(response.body()).path("data").path("member").path("token").asText();
+        }
+
+        private void run(long startAt) throws InterruptedException {
+            long measureFrom = startAt + warmupNanos;
+            long measureUntil = measureFrom + durationNanos;
+
+            long now;
+            while ((now = System.nanoTime()) < measureUntil) {
+                Endpoint endpoint = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+                // 제안할 게시글이 없으면 목록을 조회해서 채움 (목록 조회로 집계)
+                boolean collectingOfferTargets = endpoint == Endpoint.OFFER && offerTargets.isEmpty();
+                if (collectingOfferTargets) {
+                    endpoint = Endpoint.ARTICLES;
+                }
+
+                HttpRequest request = collectingOfferTargets
+                        ? get("/api/v1/articles?page=" + offerPage + "&size=" + PAGE_SIZE)
+                        : request(endpoint);
+                HttpResponse<String> response;
+                try {
+                    response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                } catch (IOException e) {
+                    response = null;
+                }
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - now);
+
+                JsonNode body = response == null ? null : readBody(response);
+                int status = response == null ? 0 : status(response, body);
+                // 요청을 보낸 시각 기준으로 측정 구간에 속한 요청만 집계
+                if (now >= measureFrom) {
+                    if (response == null) {
+                        recorders.get(endpoint).recordFailure(latencyMicros);
+                    } else {
+                        recorders.get(endpoint).record(latencyMicros, status);
+                    }
+                }
+                if (collectingOfferTargets && body != null) {
+                    collectOfferTargets(body);
+                } else if (endpoint == Endpoint.OFFER && response != null) {
+                    afterOffer(status);
+                }
+
+                if (thinkTimeMillis > 0) {
+                    Thread.sleep(thinkTimeMillis);
+                }
+            }
+        }
+
+        private HttpRequest request(Endpoint endpoint) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (endpoint) {
+                case ARTICLES:
+                    // 대부분 첫 페이지 근처를 보고, 일부는 카테고리를 골라서 봄
+                    String category = random.nextInt(10) < 3 ? "&categoryCode=" + randomCategoryCode() : "";
+                    return get("/api/v1/articles?page=" + skewedPage() + "&size=" + PAGE_SIZE + category);
+                case SEARCH_FILTERS:
+                    int minPrice = random.nextInt(0, 300) * 1_000;
+                    String title = random.nextBoolean() ? URLEncoder.encode("판매", StandardCharsets.UTF_8) : "";
+                    return get("/api/v1/search/filters?title=" + title
+                            + "&categoryCode=" + randomCategoryCode()
+                            + "&tradeMethodCode=" + TradeMethod.values()[random.nextInt(TradeMethod.values().length)].getCode()
+                            + "&minPrice=" + minPrice + "&maxPrice=" + (minPrice + 200_000)
+                            + "&page=" + skewedPage() + "&size=" + PAGE_SIZE);
+                case MESSAGE_BOX:
+                    return get("/api/v1/messages/messageBox?page=0&size=" + PAGE_SIZE);
+                case OFFER:
+                    long articleId = offerTargets.peekFirst();
+                    // 같은 게시글에 한 번 더 제안할 때 같은 가격이 되지 않도록 몇 번째 제안인지를 가격에 반영
+                    int price = (random.nextInt(1, 250) * maxOffersPerArticle + offerCounts.getOrDefault(articleId, 0)) * 1_000;
+                    return authorized(URI.create(baseUrl + "/api/v1/articles/" + articleId + "/offers"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"price\":" + price + "}"))
+                            .build();
+                default:
+                    throw new IllegalArgumentException(endpoint.name());
+            }
+        }
+
+        private HttpRequest get(String pathAndQuery) {
+            return authorized(URI.create(baseUrl + pathAndQuery)).GET().build();
+        }
+
+        private HttpRequest.Builder authorized(URI uri) {
+            return newRequest(uri).header(tokenHeader, token);
+        }
+
+        private HttpRequest.Builder newRequest(URI uri) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(requestTimeout);
+            return "none".equals(forwardedProto) ? builder : builder.header("X-Forwarded-Proto", forwardedProto);
+        }
+
+        // 빈 페이지가 나오면 (게시글보다 가상 사용자가 많은 경우 등) 처음부터 한 페이지씩 보며, 이미 다 제안한 게시글은 건너뜀
+        private void collectOfferTargets(JsonNode body) {
+            JsonNode elements = body.path("data").path("elements");
+            if (elements.size() == 0) {
+                offerPage = 0;
+                offerPageStride = 1;
+                return;
+            }
+
+            for (JsonNode element : elements) {
+                long articleId = element.path("id").asLong();
+                if (offerCounts.getOrDefault(articleId, 0) < maxOffersPerArticle) {
+                    offerTargets.addLast(articleId);
+                }
+            }
+            offerPage += offerPageStride;
+        }
+
+        // 제안할 때마다 다음 게시글로 돌아가며, 횟수를 채우거나 거절된 게시글 (시드 데이터의 제안 등) 은 빼버림
+        private void afterOffer(int status) {
+            long articleId = offerTargets.pollFirst();
+            if (status >= 200 && status < 300) {
+                int offerCount = offerCounts.merge(articleId, 1, Integer::sum);
+                if (offerCount < maxOffersPerArticle) {
+                    offerTargets.addLast(articleId);
+                }
+            } else if (status >= 400 && status < 500) {
+                offerCounts.put(articleId, maxOffersPerArticle);
+            } else {
+                offerTargets.addLast(articleId);
+            }
+        }
+
+        // 첫 페이지가 가장 많이 조회되도록 0 쪽으로 치우친 페이지 번호
+        private int skewedPage() {
+            int page = 0;
+            while (page < 9 && ThreadLocalRandom.current().nextInt(3) == 0) {
+                page++;
+            }
+            return page;
+        }
+
+        private int randomCategoryCode() {
+            Category[] categories = Category.values();
+            return categories[ThreadLocalRandom.current().nextInt(categories.length)].getCode();
+        }
+    }
+
+    private static JsonNode readBody(HttpResponse<String> response) {
+        try {
+            return OBJECT_MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 업무 예외도 HTTP 200 에 ApiResponse.code 로 내려오므로 (GlobalExceptionHandler) body 의 code 를 우선으로 봄
+    private static int status(HttpResponse<String> response, JsonNode body) {
+        if (response.statusCode() != 200 || body == null) {
+            return response.statusCode();
+        }
+        return body.path("code").asInt(response.statusCode());
+    }
+
+    // "articles=50,offer=10" 형식의 비율을 가중치만큼 endpoint 를 채운 배열로 만들어, 균등하게 뽑으면 비율대로 선택되도록 함
+    private static Endpoint[] parseMix(String mix) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split("=");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("invalid loadtest.mix entry: " + entry);
+            }
+
+            Endpoint endpoint = Endpoint.valueOf(nameAndWeight[0].trim().toUpperCase());
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            for (int i = 0; i < weight; i++) {
+                endpoints.add(endpoint);
+            }
+        }
+
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must have a positive weight");
+        }
+        return endpoints.toArray(new Endpoint[0]);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.prgrms.offer.loadtest;
+
+/**
+ * 부하 테스트 도구들의 설정 값 (gradle -Ploadtest.xxx=... 로 넘긴 값이 system property 로 전달됨)
+ */
+final class LoadTestProperties {
+
+    private static final String PREFIX = "loadtest.";
+
+    private LoadTestProperties() {
+    }
+
+    static String getString(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    static int getInt(String name, int defaultValue) {
+        String value = getString(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(PREFIX + name + " must be an integer: " + value, e);
+        }
+    }
+
+    static int getNonNegativeInt(String name, int defaultValue) {
+        int value = getInt(name, defaultValue);
+        if (value < 0) {
+            throw new IllegalArgumentException(PREFIX + name + " must not be negative: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,476 @@
+package com.prgrms.offer.loadtest;
+
+import com.prgrms.offer.domain.article.model.value.Category;
+import com.prgrms.offer.domain.article.model.value.ProductStatus;
+import com.prgrms.offer.domain.article.model.value.TradeMethod;
+import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.member.model.value.Score;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트용 데이터를 JDBC batch insert 로 채워 넣음
+ * 스키마는 애플리케이션(JPA)이 만든 것을 그대로 사용하고, 각 테이블의 현재 최대 id 다음부터 id 를 직접 지정하여 넣음
+ * (같은 DB 에 여러 번 실행해도 이전 데이터와 겹치지 않음, 실행 중 다른 곳에서 insert 하지 않는다고 가정)
+ * 테이블 단위로 commit 하므로 중간에 실패하면 앞서 넣은 테이블의 데이터는 남음
+ * <p>
+ * 만드는 데이터
+ * - 회원: 로그인 id 는 loadtest{회원 id}@offer.com, 비밀번호는 모두 loadtest.password
+ * - 게시글: 카테고리마다 같은 수, 작성자는 회원들에게 돌아가며 배정
+ * - 가격 제안: 게시글마다 작성자가 아닌 서로 다른 회원들이 한 번씩 제안
+ * - 쪽지: 제안 일부에 대해 판매자/제안자 쪽 대화방 두 개와 주고받은 쪽지
+ * - 좋아요: 회원마다 서로 다른 게시글에 좋아요 (게시글의 likeCount 도 맞춰서 넣음)
+ * - 후기: 일부 게시글은 거래완료로 두고 첫 번째 제안을 선택한 뒤 판매자와 구매자가 서로 후기를 남김
+ * <p>
+ * ./gradlew seedData -Ploadtest.jdbc_url=jdbc:mysql://localhost:3306/offer?rewriteBatchedStatements=true
+ * -Ploadtest.jdbc_username=... -Ploadtest.jdbc_password=... -Ploadtest.members=10000
+ */
+public class SeedDataGenerator {
+
+    static final String PRINCIPAL_PREFIX = "loadtest";
+    static final String PRINCIPAL_DOMAIN = "@offer.com";
+    static final String DEFAULT_PASSWORD = "loadtest1234";
+
+    private static final String TRADE_AREA = "서울시 강남구";
+    private static final String IMAGE_URL = "https://offer.s3.ap-northeast-2.amazonaws.com/productImage/";
+
+    private final int members;
+    private final int articlesPerCategory;
+    private final int offersPerArticle;
+    private final int conversationsPerArticle;
+    private final int messagesPerConversation;
+    private final int likesPerMember;
+    private final int reviewedArticlePercent;
+    private final int batchSize;
+    private final String password;
+
+    private final Category[] categories = Category.values();
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    // 각 테이블에 넣기 시작하는 id
+    private long firstMemberId;
+    private long firstArticleId;
+    private long firstOfferId;
+    private long firstMessageRoomId;
+    private long firstMessageId;
+
+    public SeedDataGenerator(int members, int articlesPerCategory, int offersPerArticle, int conversationsPerArticle,
+                             int messagesPerConversation, int likesPerMember, int reviewedArticlePercent, int batchSize,
+                             String password) {
+        int articles = articlesPerCategory * Category.values().length;
+        if (members < 2) {
+            throw new IllegalArgumentException("members must be at least 2");
+        }
+        if (offersPerArticle > members - 1) {
+            throw new IllegalArgumentException("offers_per_article must not exceed members - 1 (one offer per member)");
+        }
+        if (conversationsPerArticle > offersPerArticle) {
+            throw new IllegalArgumentException("conversations_per_article must not exceed offers_per_article");
+        }
+        if (likesPerMember > articles) {
+            throw new IllegalArgumentException("likes_per_member must not exceed the number of articles");
+        }
+        if (reviewedArticlePercent > 100) {
+            throw new IllegalArgumentException("reviewed_article_percent must not exceed 100");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch_size must be positive");
+        }
+
+        this.members = members;
+        this.articlesPerCategory = articlesPerCategory;
+        this.offersPerArticle = offersPerArticle;
+        this.conversationsPerArticle = conversationsPerArticle;
+        this.messagesPerConversation = messagesPerConversation;
+        this.likesPerMember = likesPerMember;
+        this.reviewedArticlePercent = reviewedArticlePercent;
+        this.batchSize = batchSize;
+        this.password = password;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        SeedDataGenerator generator = new SeedDataGenerator(
+                LoadTestProperties.getNonNegativeInt("members", 1_000),
+                LoadTestProperties.getNonNegativeInt("articles_per_category", 500),
+                LoadTestProperties.getNonNegativeInt("offers_per_article", 5),
+                LoadTestProperties.getNonNegativeInt("conversations_per_article", 2),
+                LoadTestProperties.getNonNegativeInt("messages_per_conversation", 6),
+                LoadTestProperties.getNonNegativeInt("likes_per_member", 20),
+                LoadTestProperties.getNonNegativeInt("reviewed_article_percent", 20),
+                LoadTestProperties.getNonNegativeInt("batch_size", 1_000),
+                LoadTestProperties.getString("password", DEFAULT_PASSWORD)
+        );
+
+        try (Connection connection = DriverManager.getConnection(
+                LoadTestProperties.getString("jdbc_url", "jdbc:h2:tcp://localhost/~/offer"),
+                LoadTestProperties.getString("jdbc_username", "sa"),
+                LoadTestProperties.getString("jdbc_password", ""))) {
+            generator.generate(connection);
+        }
+    }
+
+    public Map<String, Integer> generate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try {
+            firstMemberId = nextId(connection, "member", "member_id");
+            firstArticleId = nextId(connection, "article", "article_id");
+            firstOfferId = nextId(connection, "offer", "offer_id");
+            firstMessageRoomId = nextId(connection, "message_room", "message_room_id");
+            firstMessageId = nextId(connection, "message", "message_id");
+            long firstLikeArticleId = nextId(connection, "like_article", "like_article_id");
+            long firstReviewId = nextId(connection, "review", "review_id");
+
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            long startedAt = System.nanoTime();
+
+            // 한 transaction 이 너무 커지지 않도록 테이블마다 commit
+            counts.put("member", insertMembers(connection));
+            connection.commit();
+            counts.put("article", insertArticles(connection));
+            connection.commit();
+            counts.put("like_article", insertLikes(connection, firstLikeArticleId));
+            connection.commit();
+            counts.put("offer", insertOffers(connection));
+            connection.commit();
+            counts.put("message_room", insertMessageRooms(connection));
+            connection.commit();
+            counts.put("message", insertMessages(connection));
+            connection.commit();
+            counts.put("review", insertReviews(connection, firstReviewId));
+            connection.commit();
+
+            restartIdentities(connection);
+            connection.commit();
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            counts.forEach((table, count) -> System.out.printf("%-14s %,12d rows%n", table, count));
+            System.out.printf("seeded in %,d ms%n", elapsedMillis);
+            System.out.printf("login: %s%d%s .. %s%d%s / %s (loadtest.first_member_id=%d)%n",
+                    PRINCIPAL_PREFIX, firstMemberId, PRINCIPAL_DOMAIN,
+                    PRINCIPAL_PREFIX, firstMemberId + members - 1, PRINCIPAL_DOMAIN, password, firstMemberId);
+            return counts;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    static String principalOf(long memberId) {
+        return PRINCIPAL_PREFIX + memberId + PRINCIPAL_DOMAIN;
+    }
+
+    private int insertMembers(Connection connection) throws SQLException {
+        // BCrypt 는 느리므로 한 번만 만들어 모든 회원이 같이 사용
+        String encodedPassword = new BCryptPasswordEncoder().encode(password);
+
+        try (Batch batch = new Batch(connection, "insert into member "
+                + "(member_id, principal, password, nickname, address, profile_image_url, offer_level, score) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < members; i++) {
+                long memberId = firstMemberId + i;
+                batch.add(memberId, principalOf(memberId), encodedPassword, PRINCIPAL_PREFIX + memberId, TRADE_AREA, null, 1, 0);
+            }
+            return batch.count();
+        }
+    }
+
+    private int insertArticles(Connection connection) throws SQLException {
+        int[] likeCounts = new int[articleCount()];
+        for (int member = 0; member < members; member++) {
+            for (int like = 0; like < likesPerMember; like++) {
+                likeCounts[likedArticle(member, like)]++;
+            }
+        }
+
+        try (Batch batch = new Batch(connection, "insert into article "
+                + "(article_id, writer_id, like_count, title, content, category_code, product_status_code, trade_area, "
+                + "quantity, trade_method_code, trade_status_code, main_image_url, price, view_count, created_date, modified_date) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            ProductStatus[] productStatuses = ProductStatus.values();
+            TradeMethod[] tradeMethods = TradeMethod.values();
+
+            for (int article = 0; article < articleCount(); article++) {
+                Category category = categories[article % categories.length];
+                Timestamp createdDate = Timestamp.valueOf(articleCreatedDate(article));
+
+                batch.add(articleId(article), memberId(writer(article)), likeCounts[article],
+                        category.getName() + " 판매합니다 " + article,
+                        "부하 테스트용 게시글입니다. 상태 좋고 직거래 선호합니다. " + article,
+                        category.getCode(),
+                        productStatuses[article % productStatuses.length].getCode(),
+                        TRADE_AREA, 1,
+                        tradeMethods[article % tradeMethods.length].getCode(),
+                        tradeStatus(article).getCode(),
+                        IMAGE_URL + String.format("%08d-0000-4000-8000-%012d.png", article, article),
+                        price(article), article % 300, createdDate, createdDate);
+            }
+            return batch.count();
+        }
+    }
+
+    private int insertLikes(Connection connection, long firstLikeArticleId) throws SQLException {
+        try (Batch batch = new Batch(connection,
+                "insert into like_article (like_article_id, member_id, article_id, created_date) values (?, ?, ?, ?)")) {
+            Timestamp createdDate = Timestamp.valueOf(now);
+            long likeArticleId = firstLikeArticleId;
+            for (int member = 0; member < members; member++) {
+                for (int like = 0; like < likesPerMember; like++) {
+                    batch.add(likeArticleId++, memberId(member), articleId(likedArticle(member, like)), createdDate);
+                }
+            }
+            return batch.count();
+        }
+    }
+
+    private int insertOffers(Connection connection) throws SQLException {
+        try (Batch batch = new Batch(connection, "insert into offer "
+                + "(offer_id, article_id, offerer_id, price, is_selected, created_date, offer_number) "
+                + "values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int article = 0; article < articleCount(); article++) {
+                for (int offer = 0; offer < offersPerArticle; offer++) {
+                    batch.add(offerId(article, offer), articleId(article), memberId(offerer(article, offer)),
+                            price(article) * (95 - offer) / 100,
+                            isReviewed(article) && offer == 0,
+                            Timestamp.valueOf(offerCreatedDate(article, offer)), 1);
+                }
+            }
+            return batch.count();
+        }
+    }
+
+    // 대화 하나에 판매자 쪽과 제안자 쪽 대화방을 하나씩 만듦 (마지막 쪽지 정보까지 미리 계산해서 넣음)
+    private int insertMessageRooms(Connection connection) throws SQLException {
+        try (Batch batch = new Batch(connection, "insert into message_room "
+                + "(message_room_id, member_id, message_partner_id, article_id, offer_id, created_date, "
+                + "last_message_id, last_message_at, last_message_preview) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int article = 0; article < articleCount(); article++) {
+                for (int conversation = 0; conversation < conversationsPerArticle; conversation++) {
+                    long seller = memberId(writer(article));
+                    long offerer = memberId(offerer(article, conversation));
+                    Timestamp createdDate = Timestamp.valueOf(offerCreatedDate(article, conversation));
+                    int lastMessage = messagesPerConversation - 1;
+
+                    for (int side = 0; side < 2; side++) {
+                        boolean hasMessage = messagesPerConversation > 0;
+                        batch.add(messageRoomId(article, conversation, side),
+                                side == 0 ? seller : offerer,
+                                side == 0 ? offerer : seller,
+                                articleId(article), offerId(article, conversation), createdDate,
+                                hasMessage ? messageId(article, conversation, lastMessage, side) : null,
+                                hasMessage ? Timestamp.valueOf(messageCreatedDate(article, conversation, lastMessage)) : null,
+                                hasMessage ? messageContent(lastMessage) : null);
+                    }
+                }
+            }
+            return batch.count();
+        }
+    }
+
+    // 쪽지 하나는 보낸 쪽 대화방과 받은 쪽 대화방에 각각 저장됨 (MessageService 와 같은 구조)
+    private int insertMessages(Connection connection) throws SQLException {
+        try (Batch batch = new Batch(connection, "insert into message "
+                + "(message_id, is_send_message, content, created_date, message_room_id) values (?, ?, ?, ?, ?)")) {
+            for (int article = 0; article < articleCount(); article++) {
+                for (int conversation = 0; conversation < conversationsPerArticle; conversation++) {
+                    for (int message = 0; message < messagesPerConversation; message++) {
+                        // 짝수 번째는 제안자(side 1)가, 홀수 번째는 판매자(side 0)가 보냄
+                        int senderSide = message % 2 == 0 ? 1 : 0;
+                        Timestamp createdDate = Timestamp.valueOf(messageCreatedDate(article, conversation, message));
+
+                        for (int side = 0; side < 2; side++) {
+                            batch.add(messageId(article, conversation, message, side), side == senderSide,
+                                    messageContent(message), createdDate, messageRoomId(article, conversation, side));
+                        }
+                    }
+                }
+            }
+            return batch.count();
+        }
+    }
+
+    private int insertReviews(Connection connection, long firstReviewId) throws SQLException {
+        try (Batch batch = new Batch(connection, "insert into review "
+                + "(review_id, reviewee_id, reviewer_id, score, article_id, content, is_reviewee_buyer, created_date) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            if (offersPerArticle == 0) {
+                return 0;
+            }
+
+            long reviewId = firstReviewId;
+            for (int article = 0; article < articleCount(); article++) {
+                if (!isReviewed(article)) {
+                    continue;
+                }
+
+                long seller = memberId(writer(article));
+                long buyer = memberId(offerer(article, 0));
+                Timestamp createdDate = Timestamp.valueOf(offerCreatedDate(article, 0).plusDays(1));
+
+                batch.add(reviewId++, seller, buyer, Score.GOOD.getValue(), articleId(article), "친절하게 거래해 주셨어요", false, createdDate);
+                batch.add(reviewId++, buyer, seller, Score.GOOD.getValue(), articleId(article), "시간 약속을 잘 지키셨어요", true, createdDate);
+            }
+            return batch.count();
+        }
+    }
+
+    // id 를 직접 지정해서 넣었으므로, H2 는 identity 가 이어서 발급되도록 다시 맞춰야 함 (MySQL auto_increment 는 자동으로 맞춰짐)
+    private void restartIdentities(Connection connection) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+
+        String[][] identities = {
+                {"member", "member_id"}, {"article", "article_id"}, {"like_article", "like_article_id"}, {"offer", "offer_id"},
+                {"message_room", "message_room_id"}, {"message", "message_id"}, {"review", "review_id"}
+        };
+        try (Statement statement = connection.createStatement()) {
+            for (String[] identity : identities) {
+                long nextId = nextId(connection, identity[0], identity[1]);
+                statement.execute("alter table " + identity[0] + " alter column " + identity[1] + " restart with " + nextId);
+            }
+        }
+    }
+
+    private long nextId(Connection connection, String table, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select coalesce(max(" + idColumn + "), 0) + 1 from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private int articleCount() {
+        return articlesPerCategory * categories.length;
+    }
+
+    private long memberId(int member) {
+        return firstMemberId + member;
+    }
+
+    private long articleId(int article) {
+        return firstArticleId + article;
+    }
+
+    private long offerId(int article, int offer) {
+        return firstOfferId + (long) article * offersPerArticle + offer;
+    }
+
+    private long messageRoomId(int article, int conversation, int side) {
+        return firstMessageRoomId + ((long) article * conversationsPerArticle + conversation) * 2 + side;
+    }
+
+    private long messageId(int article, int conversation, int message, int side) {
+        return firstMessageId
+                + (((long) article * conversationsPerArticle + conversation) * messagesPerConversation + message) * 2 + side;
+    }
+
+    private int writer(int article) {
+        return article % members;
+    }
+
+    // 작성자 다음 회원부터 차례로 제안하므로 한 게시글 안에서 제안자가 겹치지 않고 작성자와도 다름
+    private int offerer(int article, int offer) {
+        return (writer(article) + 1 + offer) % members;
+    }
+
+    // 회원마다 연속된 게시글들에 좋아요 (likesPerMember <= 게시글 수 이므로 한 회원 안에서 겹치지 않음)
+    private int likedArticle(int member, int like) {
+        return (int) (((long) member * likesPerMember + like) % articleCount());
+    }
+
+    private boolean isReviewed(int article) {
+        return offersPerArticle > 0 && article % 100 < reviewedArticlePercent;
+    }
+
+    private TradeStatus tradeStatus(int article) {
+        if (isReviewed(article)) {
+            return TradeStatus.COMPLETED;
+        }
+        return article % 10 == 0 ? TradeStatus.RESERVING : TradeStatus.ON_SALE;
+    }
+
+    private int price(int article) {
+        return 10_000 + (article % 500) * 1_000;
+    }
+
+    // id 가 클수록 최근 게시글이 되도록 함 (목록의 기본 정렬인 createdDate desc 와 같은 순서)
+    private LocalDateTime articleCreatedDate(int article) {
+        return now.minusMinutes(articleCount() - article);
+    }
+
+    private LocalDateTime offerCreatedDate(int article, int offer) {
+        return articleCreatedDate(article).plusSeconds(offer + 1L);
+    }
+
+    private LocalDateTime messageCreatedDate(int article, int conversation, int message) {
+        return offerCreatedDate(article, conversation).plusSeconds(message + 1L);
+    }
+
+    private String messageContent(int message) {
+        return message % 2 == 0 ? "안녕하세요, 제안한 가격으로 거래 가능할까요? (" + message + ")" : "네, 가능합니다. 언제 시간 괜찮으세요? (" + message + ")";
+    }
+
+    /**
+     * batchSize 개씩 모아서 executeBatch 하는 insert 문
+     */
+    private class Batch implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private int pending;
+        private int count;
+
+        private Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        private void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            count++;
+
+            if (++pending == batchSize) {
+                flush();
+            }
+        }
+
+        private int count() throws SQLException {
+            flush();
+            return count;
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ public enum ResponseMessage {
     HTTP_REQUEST_METHOD_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "지원하지 않는 HTTP method 입니다."),
     INVALID_REQUEST_ARGUMENT_TYPE(HttpStatus.BAD_REQUEST, "Request 인자 값의 타입이 올바르지 않습니다."),
     MISSING_PARAMETER(HttpStatus.BAD_REQUEST, "Request Parameter가 비어있습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "cursor 형식이 올바르지 않습니다. (createdDate,id)"),
 
     // authentication
     LOGIN_FAIL(HttpStatus.BAD_REQUEST, "email 또는 비밀번호가 일치하지 않습니다."),
@@ -29,6 +30,7 @@ public enum ResponseMessage {
     NOT_SUPPORTING_PARAM_COMBINATION(HttpStatus.BAD_REQUEST, "지원하지 않는 parameter 조합입니다."),
     NOT_COMPLETED_TRADE(HttpStatus.BAD_REQUEST, "거래완료상태가 아닙니다."),
     ALREADY_SWITCH_TRADESTATUS(HttpStatus.BAD_REQUEST, "거래완료상태에서 거래상태를 변경할 수 없습니다."),
+    ALREADY_SWITCHED_LIKE_STATUS(HttpStatus.CONFLICT, "좋아요 상태가 이미 변경되었습니다. 다시 시도해주세요."),
 
     // member
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 사용자를 찾을 수 없습니다."),
@@ -42,16 +44,19 @@ public enum ResponseMessage {
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "거래후기가 존재하지 않습니다."),
 
     // s3
-    FILE_CONVERTION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 파일을 전환하는데 실패했습니다."),
+    FILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 파일을 업로드하는데 실패했습니다."),
     INVALID_IMAGE_EXCEPTION(HttpStatus.BAD_REQUEST, "변환할 이미지가 존재하지 않습니다."),
     FILE_SIZE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "파일 사이즈는 최대 5MB 이하여야 합니다."),
+    IMAGE_PIXEL_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "이미지 해상도가 너무 큽니다."),
 
     // offer
     EXCEED_OFFER_COUNT(HttpStatus.BAD_REQUEST, "가격제안 횟수를 초과했습니다."),
+    CONCURRENT_OFFER(HttpStatus.CONFLICT, "동시에 처리된 가격제안이 있습니다. 다시 시도해주세요."),
     OFFER_NOT_FOUND(HttpStatus.NOT_FOUND, "가격 제안이 존재하지 않습니다."),
     EXISTS_ALREADY_SELECTED_OFFER(HttpStatus.BAD_REQUEST, "이미 선택된 offer가 존재합니다."),
     NOT_SELECTED_OFFER(HttpStatus.BAD_REQUEST, "선택된 Offer가 없습니다."),
     ALREADY_EXIST_SAME_PRICE_OFFER(HttpStatus.BAD_REQUEST, "같은 가격으로 제안한 오퍼가 존재합니다."),
+    OFFER_FEED_SUBSCRIBER_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "가격제안 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // message
     MESSAGE_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "나가기한 대화방이거나 없는 대화방입니다. 가격 제안자에게 쪽지를 전송하려면 [게시글]>[가격제안]의 [편지 버튼]을 누르세요."),
@@ -0,0 +1,83 @@
+package com.prgrms.offer.common.page;
+
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+/**
+ * keyset 페이지네이션에서 마지막으로 조회한 row의 위치 (createdDate, id)
+ * 문자열 표현은 "2021-12-01T10:00:00.123456,42" 형태
+ * id 만으로 seek 하는 경우(검색 엔진의 id 내림차순 조회)에는 createdDate 없이 "42" 형태
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public static Cursor of(LocalDateTime createdDate, Long id) {
+        return new Cursor(createdDate, id);
+    }
+
+    // 다음 페이지가 있으면 slice 의 마지막 row 위치를, 없으면 null 을 반환
+    public static <T> Cursor next(Slice<T> slice, Function<? super T, LocalDateTime> createdDateOf,
+            Function<? super T, Long> idOf) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+
+        List<T> content = slice.getContent();
+        T last = content.get(content.size() - 1);
+        return new Cursor(createdDateOf.apply(last), idOf.apply(last));
+    }
+
+    // id 만 담은 cursor, 다음 페이지가 없으면 null
+    public static <T> Cursor nextId(Slice<T> slice, Function<? super T, Long> idOf) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+
+        List<T> content = slice.getContent();
+        return new Cursor(null, idOf.apply(content.get(content.size() - 1)));
+    }
+
+    // id 만 사용하는 cursor 를 읽음 (이전에 발급된 "createdDate,id" 형태도 id 부분만 읽어 허용)
+    public static Cursor parseId(String cursor) {
+        try {
+            return new Cursor(null, Long.parseLong(cursor.substring(cursor.lastIndexOf(DELIMITER) + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ResponseMessage.INVALID_CURSOR);
+        }
+    }
+
+    public static Cursor parse(String cursor) {
+        int delimiterIndex = cursor.lastIndexOf(DELIMITER);
+        if (delimiterIndex < 0) {
+            throw new BusinessException(ResponseMessage.INVALID_CURSOR);
+        }
+
+        try {
+            return new Cursor(
+                    LocalDateTime.parse(cursor.substring(0, delimiterIndex).trim()),
+                    Long.parseLong(cursor.substring(delimiterIndex + 1).trim())
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException(ResponseMessage.INVALID_CURSOR);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return createdDate == null ? String.valueOf(id) : createdDate + DELIMITER + id;
+    }
+}
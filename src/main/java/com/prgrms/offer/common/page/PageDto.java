@@ -14,12 +14,19 @@ public class PageDto<T> {
 
     private Integer offerCountOfCurrentMember;
 
+    // cursor 모드에서 다음 페이지 요청에 사용할 cursor (마지막 페이지이면 null)
+    private String nextCursor;
+
     public static <T> PageDto<T> of(T elements, PageInfo pageInfo) {
-        return new PageDto<>(elements, pageInfo, null);
+        return new PageDto<>(elements, pageInfo, null, null);
     }
 
     public static <T> PageDto<T> of(T elements, PageInfo pageInfo, int offerCountOfCurrentMember) {
-        return new PageDto<>(elements, pageInfo, offerCountOfCurrentMember);
+        return new PageDto<>(elements, pageInfo, offerCountOfCurrentMember, null);
+    }
+
+    public static <T> PageDto<T> ofCursor(T elements, Cursor nextCursor) {
+        return new PageDto<>(elements, null, null, nextCursor == null ? null : nextCursor.toString());
     }
 
 }
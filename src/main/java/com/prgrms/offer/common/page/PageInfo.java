@@ -16,13 +16,16 @@ public class PageInfo {
     private Boolean isLastPage;
     private Boolean isFirstPage;
 
+    private TotalCountMode totalCountMode;
+
     public static PageInfo of(
             int currentPageNumber,
             int lastPageNumber,
             int sizePerPage,
             long totalElementCount,
             boolean isLastPage,
-            boolean isFirstPage
+            boolean isFirstPage,
+            TotalCountMode totalCountMode
     ) {
 
         return new PageInfo(
@@ -31,7 +34,8 @@ public class PageInfo {
                 sizePerPage,
                 (int) totalElementCount,
                 isLastPage,
-                isFirstPage
+                isFirstPage,
+                totalCountMode
         );
     }
 
@@ -0,0 +1,78 @@
+package com.prgrms.offer.common.page;
+
+import com.prgrms.offer.core.config.PropertyProvider;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 조회의 count 쿼리 결과를 조회 조건(key)별로 짧은 시간 동안 캐싱
+ * 페이지를 넘길 때마다 같은 조건으로 count(*) 를 반복 실행하지 않도록 하기 위함
+ * (게시글 변경 시 비우지만, 다른 서버의 변경은 TTL 동안 반영되지 않을 수 있음)
+ */
+@Component
+public class TotalCountCache {
+
+    private final Map<String, CachedTotalCount> totalCounts = new ConcurrentHashMap<>();
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public TotalCountCache(PropertyProvider propertyProvider) {
+        this.ttlMillis = propertyProvider.getPAGE_TOTAL_COUNT_CACHE_TTL_MILLIS();
+        this.maxSize = propertyProvider.getPAGE_TOTAL_COUNT_CACHE_MAX_SIZE();
+    }
+
+    public <T> Page<T> toPage(List<T> list, Pageable pageable, String key, LongSupplier totalCountSupplier) {
+        long offset = pageable.getOffset();
+
+        if (TotalCountMode.isElidable(offset, pageable.getPageSize(), list.size())) {
+            return new TotalCountPage<>(list, pageable, offset + list.size(), TotalCountMode.ELIDED);
+        }
+
+        long now = System.currentTimeMillis();
+        CachedTotalCount cached = totalCounts.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            // 캐시된 값이 현재 페이지보다 작으면 적어도 지금까지 조회된 개수만큼은 있다고 봄
+            long total = Math.max(cached.totalCount, offset + list.size());
+            return new TotalCountPage<>(list, pageable, total, TotalCountMode.CACHED);
+        }
+
+        long totalCount = totalCountSupplier.getAsLong();
+        put(key, new CachedTotalCount(totalCount, now + ttlMillis), now);
+
+        return new TotalCountPage<>(list, pageable, totalCount, TotalCountMode.EXACT);
+    }
+
+    // 게시글이 생성, 수정, 삭제되면 어떤 조건의 개수가 바뀌었는지 따로 계산하지 않고 모두 비움
+    public void clear() {
+        totalCounts.clear();
+    }
+
+    private void put(String key, CachedTotalCount cachedTotalCount, long now) {
+        if (totalCounts.size() >= maxSize) {
+            totalCounts.values().removeIf(c -> c.expiresAt <= now);
+
+            if (totalCounts.size() >= maxSize) {
+                totalCounts.clear();
+            }
+        }
+
+        totalCounts.put(key, cachedTotalCount);
+    }
+
+    private static class CachedTotalCount {
+
+        private final long totalCount;
+        private final long expiresAt;
+
+        private CachedTotalCount(long totalCount, long expiresAt) {
+            this.totalCount = totalCount;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.prgrms.offer.common.page;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * PageInfo.totalElementCount 가 어떻게 구해졌는지 나타냄
+ * EXACT: count 쿼리 실행, ELIDED: 마지막 페이지라 count 쿼리 없이 계산, CACHED: 짧은 TTL 캐시에서 가져온 근사값
+ */
+public enum TotalCountMode {
+    EXACT,
+    ELIDED,
+    CACHED,
+    ;
+
+    public static TotalCountMode of(Page<?> page) {
+        if (page instanceof TotalCountPage) {
+            return ((TotalCountPage<?>) page).getTotalCountMode();
+        }
+
+        return isElidable(page.getPageable().isPaged() ? page.getPageable().getOffset() : 0,
+                page.getPageable().isPaged() ? page.getPageable().getPageSize() : Integer.MAX_VALUE,
+                page.getNumberOfElements()) ? ELIDED : EXACT;
+    }
+
+    // Spring Data 의 PageableExecutionUtils 와 같은 조건 (첫 페이지가 덜 찼거나, 내용이 있는 마지막 페이지)
+    static boolean isElidable(long offset, int pageSize, int numberOfElements) {
+        if (offset == 0) {
+            return numberOfElements < pageSize;
+        }
+
+        return numberOfElements != 0 && numberOfElements < pageSize;
+    }
+}
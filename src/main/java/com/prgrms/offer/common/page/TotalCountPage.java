@@ -0,0 +1,28 @@
+package com.prgrms.offer.common.page;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * totalElementCount 를 구한 방식(TotalCountMode)을 함께 들고 다니는 Page
+ * map 으로 변환해도 TotalCountMode 가 유지됨
+ */
+@Getter
+public class TotalCountPage<T> extends PageImpl<T> {
+
+    private final TotalCountMode totalCountMode;
+
+    public TotalCountPage(List<T> content, Pageable pageable, long total, TotalCountMode totalCountMode) {
+        super(content, pageable, total);
+        this.totalCountMode = totalCountMode;
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        return new TotalCountPage<>(getConvertedContent(converter), getPageable(), getTotalElements(), totalCountMode);
+    }
+}
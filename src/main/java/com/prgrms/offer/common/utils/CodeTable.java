@@ -0,0 +1,82 @@
+package com.prgrms.offer.common.utils;
+
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.error.exception.BusinessException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 코드 값을 가진 enum 을 코드(또는 이름)로 찾기 위한 조회 테이블
+ * enum 의 static 필드로 클래스 초기화 시 한 번 만들어 두고, 조회 시에는 배열 index 로 바로 찾음
+ * (values() 복사, stream, Optional 생성 없이 조회하기 위함)
+ */
+public final class CodeTable<E extends Enum<E>> {
+
+    // 코드 범위만큼 배열을 만들므로, 코드가 이보다 넓게 흩어져 있으면 잘못 사용한 것으로 봄
+    private static final int MAX_CODE_RANGE = 1024;
+
+    private final int minCode;
+    private final E[] valuesByCode;
+    private final Map<String, E> valuesByName;
+    private final ResponseMessage notFoundMessage;
+
+    private CodeTable(int minCode, E[] valuesByCode, Map<String, E> valuesByName, ResponseMessage notFoundMessage) {
+        this.minCode = minCode;
+        this.valuesByCode = valuesByCode;
+        this.valuesByName = valuesByName;
+        this.notFoundMessage = notFoundMessage;
+    }
+
+    public static <E extends Enum<E>> CodeTable<E> of(E[] values, ToIntFunction<E> codeOf, ResponseMessage notFoundMessage) {
+        return of(values, codeOf, null, notFoundMessage);
+    }
+
+    public static <E extends Enum<E>> CodeTable<E> of(
+            E[] values, ToIntFunction<E> codeOf, Function<E, String> nameOf, ResponseMessage notFoundMessage) {
+        int minCode = Arrays.stream(values).mapToInt(codeOf).min().orElse(0);
+        int maxCode = Arrays.stream(values).mapToInt(codeOf).max().orElse(-1);
+        if ((long) maxCode - minCode >= MAX_CODE_RANGE) {
+            throw new IllegalArgumentException("code range is too wide for a lookup table: " + minCode + ".." + maxCode);
+        }
+
+        E[] valuesByCode = Arrays.copyOf(values, Math.max(0, maxCode - minCode + 1));
+        Arrays.fill(valuesByCode, null);
+        Map<String, E> valuesByName = new HashMap<>();
+        for (E value : values) {
+            int index = codeOf.applyAsInt(value) - minCode;
+            if (valuesByCode[index] != null) {
+                throw new IllegalArgumentException("duplicate code: " + codeOf.applyAsInt(value));
+            }
+            valuesByCode[index] = value;
+
+            if (nameOf != null) {
+                valuesByName.put(nameOf.apply(value), value);
+            }
+        }
+
+        return new CodeTable<>(minCode, valuesByCode, Map.copyOf(valuesByName), notFoundMessage);
+    }
+
+    public E of(int code) {
+        int index = code - minCode;
+        E value = index >= 0 && index < valuesByCode.length ? valuesByCode[index] : null;
+        if (value == null) {
+            throw new BusinessException(notFoundMessage);
+        }
+
+        return value;
+    }
+
+    public E of(String name) {
+        E value = name == null ? null : valuesByName.get(name);
+        if (value == null) {
+            throw new BusinessException(notFoundMessage);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,218 @@
+package com.prgrms.offer.common.utils;
+
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import org.w3c.dom.NodeList;
+
+/**
+ * javax.imageio 만으로 이미지를 줄여서 다시 인코딩 (네이티브 라이브러리 없이 동작)
+ */
+public class ImageResizer {
+
+    // 작은 파일로 거대한 이미지를 만드는 압축 폭탄을 막기 위해, 이보다 픽셀이 많은 이미지는 디코딩하지 않음
+    static final long MAX_PIXELS = 40_000_000L;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int NORMAL_ORIENTATION = 1;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 긴 변이 maxSize 의 두 배 이상이면 subsampling 하여 필요한 만큼만 디코딩 (나머지는 resize 에서 보간하여 줄임)
+     * 디코딩 전에 헤더의 크기만 읽어 MAX_PIXELS 를 넘으면 거절하고, ImageIO 가 읽을 수 없는 형식이면 empty
+     * JPEG 는 다시 인코딩하면 EXIF 가 빠지므로, EXIF 의 Orientation 대로 회전하거나 뒤집어서 보이는 방향으로 돌려줌
+     */
+    public static Optional<BufferedImage> read(InputStream inputStream, int maxSize) throws IOException {
+        try (inputStream; ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null
+                    ? Collections.emptyIterator()
+                    : ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                // Orientation 을 읽어야 하는 JPEG 만 메타데이터를 읽음
+                boolean jpeg = JPEG_METADATA_FORMAT.equals(reader.getOriginatingProvider().getNativeImageMetadataFormatName());
+                reader.setInput(imageInputStream, true, !jpeg);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new BusinessException(ResponseMessage.IMAGE_PIXEL_LIMIT_EXCEEDED);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return Optional.of(jpeg ? orient(image, readOrientation(reader.getImageMetadata(0))) : image);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // APP1 (EXIF) 마커의 TIFF 헤더를 따라가 IFD0 의 Orientation (0x0112) 만 읽음, 없거나 깨져 있으면 기본 방향
+    static int readOrientation(IIOMetadata metadata) {
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return NORMAL_ORIENTATION;
+        }
+
+        NodeList markers = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT)).getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (Integer.parseInt(marker.getAttribute("MarkerTag")) == APP1_MARKER && marker.getUserObject() instanceof byte[]) {
+                byte[] app1 = (byte[]) marker.getUserObject();
+                if (startsWith(app1, EXIF_HEADER)) {
+                    return readTiffOrientation(ByteBuffer.wrap(app1, EXIF_HEADER.length, app1.length - EXIF_HEADER.length).slice());
+                }
+            }
+        }
+        return NORMAL_ORIENTATION;
+    }
+
+    private static int readTiffOrientation(ByteBuffer tiff) {
+        try {
+            tiff.order(tiff.getShort(0) == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            int ifd = tiff.getInt(4);
+            int entryCount = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entryCount; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                    int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return orientation >= 1 && orientation <= 8 ? orientation : NORMAL_ORIENTATION;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 EXIF 는 무시하고 저장된 방향 그대로 씀
+        }
+        return NORMAL_ORIENTATION;
+    }
+
+    // EXIF Orientation 2~8 을 저장된 픽셀 좌표에서 보이는 좌표로 옮기는 변환 (5~8 은 가로, 세로가 바뀜)
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == NORMAL_ORIENTATION) {
+            return image;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+            default:
+                return image;
+        }
+
+        boolean swapped = orientation >= 5;
+        BufferedImage target = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        return bytes.length >= prefix.length && Arrays.equals(bytes, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    public static boolean canWrite(String format) {
+        return format != null && ImageIO.getImageWritersByFormatName(format).hasNext();
+    }
+
+    // 긴 변이 maxSize 를 넘지 않도록 비율을 유지하여 줄임 (이미 작으면 크기는 그대로 두고 다시 인코딩만 함)
+    public static byte[] resize(BufferedImage image, int maxSize, String format) throws IOException {
+        String formatName = format.toLowerCase(Locale.ROOT);
+        boolean opaque = formatName.equals("jpg") || formatName.equals("jpeg") || formatName.equals("bmp");
+
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage resized = scaleDown(image, width, height, opaque);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (!ImageIO.write(resized, formatName, outputStream)) {
+            throw new IOException("no image writer for " + format);
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 한 번에 크게 줄이면 bilinear 보간으로도 계단 현상이 생기므로 절반씩 나누어 줄임
+    private static BufferedImage scaleDown(BufferedImage image, int width, int height, boolean opaque) {
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, opaque);
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean opaque) {
+        BufferedImage target = new BufferedImage(width, height, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,47 @@
+package com.prgrms.offer.common.utils;
+
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 시 원본 옆에 함께 저장하는 축소 이미지 종류
+ * 원본 key 가 productImage/{uuid}.png 이면 목록용은 productImage/{uuid}_list.png 로 저장됨
+ */
+public enum ImageVariant {
+    LIST("_list", 320),
+    DETAIL("_detail", 1080);
+
+    // 변형 이미지를 함께 저장하기 시작한 뒤의 파일 이름 (uuid 이름) 만 변형 이미지가 있다고 봄
+    private static final Pattern VARIANT_SOURCE = Pattern.compile(
+            ".*/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(\\.[A-Za-z0-9]+)?");
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String fileNameOf(String originalFileName) {
+        int slash = originalFileName.lastIndexOf('/');
+        int dot = originalFileName.lastIndexOf('.');
+        if (dot <= slash) {
+            return originalFileName + suffix;
+        }
+
+        return originalFileName.substring(0, dot) + suffix + originalFileName.substring(dot);
+    }
+
+    // 변형 이미지가 없는 예전 이미지 (또는 이미지 없음) 는 원본 url 을 그대로 반환
+    public String urlOf(String originalUrl) {
+        if (originalUrl == null || !VARIANT_SOURCE.matcher(originalUrl).matches()) {
+            return originalUrl;
+        }
+
+        return fileNameOf(originalUrl);
+    }
+}
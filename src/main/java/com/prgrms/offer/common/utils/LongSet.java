@@ -0,0 +1,50 @@
+package com.prgrms.offer.common.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * boxing 없이 long 값의 포함 여부만 확인하기 위한 불변 집합
+ * 정렬된 long 배열 위에서 이진 탐색으로 contains를 수행
+ */
+public final class LongSet {
+
+    private static final LongSet EMPTY = new LongSet(new long[0]);
+
+    private final long[] values;
+
+    private LongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static LongSet empty() {
+        return EMPTY;
+    }
+
+    public static LongSet of(Collection<Long> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sorted = new long[values.size()];
+        int i = 0;
+        for (Long value : values) {
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+
+        return new LongSet(sorted);
+    }
+
+    public boolean contains(Long value) {
+        return value != null && Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+}
@@ -2,82 +2,193 @@ package com.prgrms.offer.common.utils;
 
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.error.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import javax.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Locale;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class S3ImageUploader {
 
     private final AmazonS3Client amazonS3Client;
 
+    // 한 요청의 이미지들을 동시에 올리기 위한 executor (스레드 수와 대기열 크기를 제한하고, 가득 차면 요청 스레드에서 직접 업로드)
+    private final ThreadPoolExecutor uploadExecutor;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    public S3ImageUploader(AmazonS3Client amazonS3Client, PropertyProvider propertyProvider) {
+        this.amazonS3Client = amazonS3Client;
+
+        int threads = propertyProvider.getIMAGE_UPLOAD_THREADS();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(propertyProvider.getIMAGE_UPLOAD_QUEUE_SIZE()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-image-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        File uploadFile = convert(multipartFile)
-                .orElseThrow(() -> new BusinessException(ResponseMessage.FILE_CONVERTION_FAIL));
+        return amazonS3Client.getUrl(bucket, put(multipartFile, dirName)).toString();
+    }
 
-        return upload(uploadFile, dirName);
+    // 순서는 입력 순서를 유지하며, 하나라도 실패하면 이미 올라간 이미지는 지우고 예외를 던짐
+    // variants 를 주면 원본 옆에 축소 이미지를 함께 저장 (ImageVariant.urlOf 로 url 을 얻음)
+    public List<String> uploadAll(List<MultipartFile> multipartFiles, String dirName, ImageVariant... variants) {
+        List<CompletableFuture<List<String>>> uploads = new ArrayList<>(multipartFiles.size());
+        for (MultipartFile multipartFile : multipartFiles) {
+            uploads.add(CompletableFuture.supplyAsync(() -> putWithVariants(multipartFile, dirName, variants), uploadExecutor));
+        }
+
+        List<List<String>> fileNames = new ArrayList<>(uploads.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<List<String>> upload : uploads) {
+            try {
+                fileNames.add(upload.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            log.warn("IMAGE_UPLOAD_FAIL", failure.getCause());
+            fileNames.forEach(this::deleteUploaded);
+            // 해상도 초과처럼 요청이 잘못된 경우는 그 응답을 그대로 전달
+            if (failure.getCause() instanceof BusinessException) {
+                throw (BusinessException) failure.getCause();
+            }
+            throw new BusinessException(ResponseMessage.FILE_UPLOAD_FAIL);
+        }
+
+        List<String> imageUrls = new ArrayList<>(fileNames.size());
+        for (List<String> uploaded : fileNames) {
+            imageUrls.add(amazonS3Client.getUrl(bucket, uploaded.get(0)).toString());
+        }
+
+        return imageUrls;
     }
 
-    private String upload(File uploadFile, String dirName) {
-        String fileName = dirName + "/" + uploadFile.getName();
-        String uploadImageUrl = putS3(uploadFile, fileName);
-        removeNewFile(uploadFile);
-        return uploadImageUrl;
+    public void deleteObject(String prevFileDir) {
+        amazonS3Client.deleteObject(bucket, prevFileDir);
     }
 
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile).withCannedAcl(CannedAccessControlList.PublicRead));
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
     }
 
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("FILE_DELETION_SUCCESS");
-        } else {
-            log.info("FILE_DELETION_FAIL");
+    private String put(MultipartFile multipartFile, String dirName) throws IOException {
+        String fileName = dirName + "/" + newFileName(multipartFile.getOriginalFilename());
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        // 길이를 알려주어야 SDK 가 스트림 전체를 메모리에 버퍼링하지 않고 그대로 전송함
+        metadata.setContentLength(multipartFile.getSize());
+        metadata.setContentType(multipartFile.getContentType());
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
         }
-    }
 
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"), Locale.KOREA);
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd_HHmmSS");
+        return fileName;
+    }
 
-        String originFileName = file.getOriginalFilename();
-        String ext = originFileName.substring(originFileName.lastIndexOf(".") + 1);
+    // 원본 key 를 맨 앞으로 하여 이번에 저장한 key 들을 반환하고, 중간에 실패하면 저장한 것을 지움
+    private List<String> putWithVariants(MultipartFile multipartFile, String dirName, ImageVariant[] variants) {
+        List<String> fileNames = new ArrayList<>(1 + variants.length);
+        try {
+            String fileName = put(multipartFile, dirName);
+            fileNames.add(fileName);
 
-        String newFileName = dateFormat.format(cal.getTime()) + "." + ext;
+            if (variants.length > 0) {
+                putVariants(multipartFile, fileName, variants, fileNames);
+            }
+            return fileNames;
+        } catch (IOException e) {
+            deleteUploaded(fileNames);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteUploaded(fileNames);
+            throw e;
+        }
+    }
 
-        File convertFile = new File(newFileName);
-        if(convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
+    private void putVariants(MultipartFile multipartFile, String fileName, ImageVariant[] variants,
+            List<String> fileNames) throws IOException {
+        String format = StringUtils.getFilenameExtension(fileName);
+        int maxSize = 0;
+        for (ImageVariant variant : variants) {
+            maxSize = Math.max(maxSize, variant.getMaxSize());
+        }
+        Optional<BufferedImage> image = ImageResizer.canWrite(format)
+                ? ImageResizer.read(multipartFile.getInputStream(), maxSize)
+                : Optional.empty();
+
+        for (ImageVariant variant : variants) {
+            String variantFileName = variant.fileNameOf(fileName);
+            if (image.isPresent()) {
+                byte[] resized = ImageResizer.resize(image.get(), variant.getMaxSize(), format);
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(resized.length);
+                metadata.setContentType(multipartFile.getContentType());
+                amazonS3Client.putObject(new PutObjectRequest(bucket, variantFileName, new ByteArrayInputStream(resized), metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead));
+            } else {
+                // 줄일 수 없는 형식이면 원본을 그대로 복사해 두어 변형 이미지 url 이 항상 존재하도록 함
+                amazonS3Client.copyObject(new CopyObjectRequest(bucket, fileName, bucket, variantFileName)
+                        .withCannedAccessControlList(CannedAccessControlList.PublicRead));
             }
-            return Optional.of(convertFile);
+            fileNames.add(variantFileName);
         }
+    }
 
-        return Optional.empty();
+    private void deleteUploaded(List<String> fileNames) {
+        for (String fileName : fileNames) {
+            try {
+                deleteObject(fileName);
+            } catch (RuntimeException e) {
+                log.warn("FILE_DELETION_FAIL: {}", fileName, e);
+            }
+        }
     }
 
-    public void deleteObject(String prevFileDir) {
-        amazonS3Client.deleteObject(bucket, prevFileDir);
+    // 같은 시각에 올라온 파일끼리도 겹치지 않도록 UUID 를 파일 이름으로 사용
+    private String newFileName(String originFileName) {
+        String ext = StringUtils.getFilenameExtension(originFileName);
+        String uuid = UUID.randomUUID().toString();
+
+        return StringUtils.hasText(ext) ? uuid + "." + ext : uuid;
     }
 }
@@ -0,0 +1,25 @@
+package com.prgrms.offer.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 실행하고 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+    public static void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
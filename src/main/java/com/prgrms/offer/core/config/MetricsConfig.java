@@ -0,0 +1,60 @@
+package com.prgrms.offer.core.config;
+
+import com.prgrms.offer.core.jwt.VerifiedTokenCache;
+import com.prgrms.offer.core.metrics.SqlStatementCounter;
+import com.prgrms.offer.core.metrics.SqlStatementCountingDataSource;
+import com.prgrms.offer.domain.article.service.ArticleDetailCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // 요청당 SQL 문 개수를 세기 위해 DataSource 를 감쌈 (Hibernate 를 거치지 않는 JdbcTemplate 의 SQL 문도 셈)
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor(SqlStatementCounter sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource((DataSource) bean, sqlStatementCounter);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache verifiedTokenCache) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                    .tags("cache", "verifiedToken", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                    .tags("cache", "verifiedToken", "result", "miss")
+                    .register(registry);
+            Gauge.builder("cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                    .tags("cache", "verifiedToken")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder articleDetailCacheMetrics(ArticleDetailCache articleDetailCache) {
+        return registry -> {
+            Gauge.builder("cache.size", articleDetailCache, ArticleDetailCache::size)
+                    .tags("cache", "articleDetail")
+                    .register(registry);
+            Gauge.builder("cache.weight", articleDetailCache, ArticleDetailCache::getWeight)
+                    .tags("cache", "articleDetail")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
@@ -13,12 +13,22 @@ public class PropertyProvider {
     private final int NUM_OF_REGISTERABLE_IMG;
     private final String NO_IMG;
     private final String PRODUCT_IMG_DIR;
+    private final int IMAGE_UPLOAD_THREADS;
+    private final int IMAGE_UPLOAD_QUEUE_SIZE;
+    private final long ARTICLE_DETAIL_CACHE_MAX_BYTES;
 
     // for member
     private final String PROFILE_IMG_DIR;
+    private final int MEMBER_CACHE_MAX_SIZE;
 
     // for offer
     private final int MAX_AVAIL_OFFER_COUNT;
+    private final int OFFER_FEED_BUFFER_SIZE;
+    private final long OFFER_FEED_TIMEOUT_MILLIS;
+    private final int OFFER_FEED_DISPATCH_THREADS;
+    private final long OFFER_FEED_SEND_TIMEOUT_MILLIS;
+    private final int OFFER_FEED_MAX_SUBSCRIBERS_PER_ARTICLE;
+    private final int OFFER_FEED_MAX_SUBSCRIBERS;
 
     // for review
     private final String BUYER;
@@ -27,24 +37,52 @@ public class PropertyProvider {
     // for message
     private final double REQURIED_CONTENTS_SIZE;
 
+    // for page
+    private final long PAGE_TOTAL_COUNT_CACHE_TTL_MILLIS;
+    private final int PAGE_TOTAL_COUNT_CACHE_MAX_SIZE;
+
     public PropertyProvider(
             @Value("${article.num_of_registerable_img}") int NUM_OF_REGISTERABLE_IMG,
             @Value("${article.no_img}") String NO_IMG,
             @Value("${article.product_img_dir}") String PRODUCT_IMG_DIR,
+            @Value("${article.image_upload_threads}") int IMAGE_UPLOAD_THREADS,
+            @Value("${article.image_upload_queue_size}") int IMAGE_UPLOAD_QUEUE_SIZE,
+            @Value("${article.detail_cache_max_bytes}") long ARTICLE_DETAIL_CACHE_MAX_BYTES,
             @Value("${member.profile_img_dir}") String PROFILE_IMG_DIR,
+            @Value("${member.cache_max_size}") int MEMBER_CACHE_MAX_SIZE,
             @Value("${offer.max_avail_offer_count}") int MAX_AVAIL_OFFER_COUNT,
+            @Value("${offer.feed_buffer_size}") int OFFER_FEED_BUFFER_SIZE,
+            @Value("${offer.feed_timeout_ms}") long OFFER_FEED_TIMEOUT_MILLIS,
+            @Value("${offer.feed_dispatch_threads}") int OFFER_FEED_DISPATCH_THREADS,
+            @Value("${offer.feed_send_timeout_ms}") long OFFER_FEED_SEND_TIMEOUT_MILLIS,
+            @Value("${offer.feed_max_subscribers_per_article}") int OFFER_FEED_MAX_SUBSCRIBERS_PER_ARTICLE,
+            @Value("${offer.feed_max_subscribers}") int OFFER_FEED_MAX_SUBSCRIBERS,
             @Value("${review.buyer}") String BUYER,
             @Value("${review.seller}") String SELLER,
-            @Value("${message.requried_contents_size}") double REQURIED_CONTENTS_SIZE
+            @Value("${message.requried_contents_size}") double REQURIED_CONTENTS_SIZE,
+            @Value("${page.total_count_cache_ttl_millis}") long PAGE_TOTAL_COUNT_CACHE_TTL_MILLIS,
+            @Value("${page.total_count_cache_max_size}") int PAGE_TOTAL_COUNT_CACHE_MAX_SIZE
     ) {
 
         this.NUM_OF_REGISTERABLE_IMG = NUM_OF_REGISTERABLE_IMG;
         this.NO_IMG = NO_IMG;
         this.PRODUCT_IMG_DIR = PRODUCT_IMG_DIR;
+        this.IMAGE_UPLOAD_THREADS = IMAGE_UPLOAD_THREADS;
+        this.IMAGE_UPLOAD_QUEUE_SIZE = IMAGE_UPLOAD_QUEUE_SIZE;
+        this.ARTICLE_DETAIL_CACHE_MAX_BYTES = ARTICLE_DETAIL_CACHE_MAX_BYTES;
         this.PROFILE_IMG_DIR = PROFILE_IMG_DIR;
+        this.MEMBER_CACHE_MAX_SIZE = MEMBER_CACHE_MAX_SIZE;
         this.MAX_AVAIL_OFFER_COUNT = MAX_AVAIL_OFFER_COUNT;
+        this.OFFER_FEED_BUFFER_SIZE = OFFER_FEED_BUFFER_SIZE;
+        this.OFFER_FEED_TIMEOUT_MILLIS = OFFER_FEED_TIMEOUT_MILLIS;
+        this.OFFER_FEED_DISPATCH_THREADS = OFFER_FEED_DISPATCH_THREADS;
+        this.OFFER_FEED_SEND_TIMEOUT_MILLIS = OFFER_FEED_SEND_TIMEOUT_MILLIS;
+        this.OFFER_FEED_MAX_SUBSCRIBERS_PER_ARTICLE = OFFER_FEED_MAX_SUBSCRIBERS_PER_ARTICLE;
+        this.OFFER_FEED_MAX_SUBSCRIBERS = OFFER_FEED_MAX_SUBSCRIBERS;
         this.BUYER = BUYER;
         this.SELLER = SELLER;
         this.REQURIED_CONTENTS_SIZE = REQURIED_CONTENTS_SIZE;
+        this.PAGE_TOTAL_COUNT_CACHE_TTL_MILLIS = PAGE_TOTAL_COUNT_CACHE_TTL_MILLIS;
+        this.PAGE_TOTAL_COUNT_CACHE_MAX_SIZE = PAGE_TOTAL_COUNT_CACHE_MAX_SIZE;
     }
 }
@@ -4,6 +4,7 @@ import com.prgrms.offer.core.oauth2.HttpCookieOAuth2AuthorizationRequestReposito
 import com.prgrms.offer.core.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.prgrms.offer.domain.member.service.MemberConverter;
 import com.prgrms.offer.domain.member.service.MemberService;
+import com.prgrms.offer.domain.member.service.MemberIdCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -39,6 +40,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
     private final JwtConfigure jwtConfigure;
     private final OAuth2AuthorizedClientRepository authorizedClientRepository;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final MemberIdCache memberIdCache;
 
     @Bean
     public Jwt jwt() {
@@ -56,9 +58,14 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
         return new JwtAuthenticationProvider(jwt, memberService);
     }
 
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache() {
+        return new VerifiedTokenCache(jwtConfigure.getVerifiedTokenCacheMaxSize());
+    }
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtConfigure.getHeader(), jwt());
+        return new JwtAuthenticationFilter(jwtConfigure.getHeader(), jwt(), memberIdCache, verifiedTokenCache());
     }
 
     @Bean
@@ -5,17 +5,24 @@ import org.springframework.util.Assert;
 /**
 * 인증 완료 후 인증된 사용자를 표현하기 위한 객체
 * JwtAuthenticationToken의 principal에 해당
+* 인증 단계에서 회원을 확인한 경우 memberId 가 채워짐 (확인하지 못한 경우 null)
 * */
 public class JwtAuthentication {
 
     public final String token;
     public final String loginId;
+    public final Long memberId;
 
     public JwtAuthentication(String token, String loginId) {
+        this(token, loginId, null);
+    }
+
+    public JwtAuthentication(String token, String loginId, Long memberId) {
         Assert.hasText(token, "token must not be empty");
         Assert.hasText(loginId, "loginId must not be empty");
         this.token = token;
         this.loginId = loginId;
+        this.memberId = memberId;
     }
 
     @Override
@@ -23,6 +30,7 @@ public class JwtAuthentication {
         return "JwtAuthentication{" +
                 "token='" + token + '\'' +
                 ", loginId='" + loginId + '\'' +
+                ", memberId=" + memberId +
                 '}';
     }
 }
@@ -1,5 +1,6 @@
 package com.prgrms.offer.core.jwt;
 
+import com.prgrms.offer.domain.member.service.MemberIdCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -26,10 +27,15 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final String headerKey;
     private final Jwt jwt;
+    private final MemberIdCache memberIdCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtAuthenticationFilter(String headerKey, Jwt jwt) {
+    public JwtAuthenticationFilter(String headerKey, Jwt jwt, MemberIdCache memberIdCache,
+            VerifiedTokenCache verifiedTokenCache) {
         this.headerKey = headerKey;
         this.jwt = jwt;
+        this.memberIdCache = memberIdCache;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -41,15 +47,20 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
             String token = getToken(request);
             if (token != null) {
                 try {
-                    Jwt.Claims claims = verify(token);
+                    // 이미 검증한 토큰이면 서명 검증과 권한 목록 생성을 건너뜀
+                    VerifiedTokenCache.VerifiedToken verifiedToken =
+                            verifiedTokenCache.verify(token, this::verify, this::getAuthorities);
+                    Jwt.Claims claims = verifiedToken.getClaims();
                     log.debug("Jwt parse result: {}", claims);
 
                     String username = claims.loginId;
-                    List<GrantedAuthority> authorities = getAuthorities(claims);
+                    List<GrantedAuthority> authorities = verifiedToken.getAuthorities();
 
                     if (StringUtils.hasText(username)) {
+                        // 회원을 한 번만 확인해 두고 서비스에서는 principal 로 다시 조회하지 않음
+                        Long memberId = memberIdCache.findIdByPrincipal(username).orElse(null);
                         JwtAuthenticationToken authentication =
-                                new JwtAuthenticationToken(new JwtAuthentication(token, username), null, authorities);
+                                new JwtAuthenticationToken(new JwtAuthentication(token, username, memberId), null, authorities);
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                     }
@@ -43,7 +43,7 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
             List<GrantedAuthority> authorities = Collections.emptyList();
             String token = getToken(member.getPrincipal(), authorities);
             JwtAuthenticationToken authenticated =
-                    new JwtAuthenticationToken(new JwtAuthentication(token, member.getPrincipal()),
+                    new JwtAuthenticationToken(new JwtAuthentication(token, member.getPrincipal(), member.getId()),
                             null, authorities);
             authenticated.setDetails(member);
             return authenticated;
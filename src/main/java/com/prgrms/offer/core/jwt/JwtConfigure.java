@@ -14,4 +14,5 @@ public class JwtConfigure {
     private String issuer;
     private String clientSecret;
     private int expirySeconds;
+    private int verifiedTokenCacheMaxSize = 10_000;
 }
@@ -0,0 +1,117 @@
+package com.prgrms.offer.core.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims 와 권한 목록을 토큰 만료(exp) 시각까지 캐싱
+ * 같은 토큰으로 반복되는 요청마다 HMAC512 검증과 권한 목록 생성을 다시 하지 않도록 하기 위함
+ * 만료 시각이 없는 토큰은 캐싱하지 않음
+ * 토큰 원문 대신 SHA-256 digest 를 key 로 두어, heap dump 등으로 캐시가 드러나도 쓸 수 있는 토큰이 남지 않음
+ */
+public class VerifiedTokenCache {
+
+    private final Map<ByteBuffer, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public VerifiedTokenCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public VerifiedToken verify(String token, Function<String, Jwt.Claims> verifier,
+            Function<Jwt.Claims, List<GrantedAuthority>> authoritiesMapper) {
+        long now = clock.getAsLong();
+        ByteBuffer key = digest(token);
+
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                hitCount.increment();
+                return cached;
+            }
+            verifiedTokens.remove(key, cached);
+        }
+
+        missCount.increment();
+
+        // 검증에 실패하면 예외가 그대로 전파되고 캐시에는 남지 않음
+        Jwt.Claims claims = verifier.apply(token);
+        VerifiedToken verifiedToken = new VerifiedToken(
+                claims, Collections.unmodifiableList(authoritiesMapper.apply(claims)), claims.exp());
+
+        if (verifiedToken.expiresAt > now) {
+            put(key, verifiedToken, now);
+        }
+
+        return verifiedToken;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return verifiedTokens.size();
+    }
+
+    private void put(ByteBuffer key, VerifiedToken verifiedToken, long now) {
+        if (verifiedTokens.size() >= maxSize) {
+            verifiedTokens.values().removeIf(v -> v.expiresAt <= now);
+
+            if (verifiedTokens.size() >= maxSize) {
+                verifiedTokens.clear();
+            }
+        }
+
+        verifiedTokens.put(key, verifiedToken);
+    }
+
+    // ByteBuffer 는 내용으로 equals, hashCode 를 비교하므로 digest 를 그대로 key 로 씀
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 은 SHA-256 을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    public static class VerifiedToken {
+
+        private final Jwt.Claims claims;
+        private final List<GrantedAuthority> authorities;
+        private final long expiresAt;
+
+        private VerifiedToken(Jwt.Claims claims, List<GrantedAuthority> authorities, long expiresAt) {
+            this.claims = claims;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.prgrms.offer.core.metrics;
+
+import com.prgrms.offer.core.error.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주요 서비스의 public 메서드 실행 시간을 offer.service.method timer 로 기록 (class, method, exception tag)
+ * 예외는 BusinessException 이면 응답 메시지 이름, 그 외에는 예외 클래스 이름으로 구분
+ * proxy 를 거치지 않는 같은 클래스 안의 호출은 기록되지 않음
+ */
+@Aspect
+@Component
+public class ServiceMethodMetricsAspect {
+
+    public static final String METRIC_NAME = "offer.service.method";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    // 정상 종료 시 사용하는 timer 는 메서드마다 한 번만 찾아 둠
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMethodMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("execution(public * com.prgrms.offer.domain.article.service.ArticleService.*(..))"
+            + " || execution(public * com.prgrms.offer.domain.search.service.ArticleSearchService.*(..))"
+            + " || execution(public * com.prgrms.offer.domain.offer.service.OfferService.*(..))"
+            + " || execution(public * com.prgrms.offer.domain.message.service.MessageService.*(..))"
+            + " || execution(public * com.prgrms.offer.domain.review.service.ReviewService.*(..))"
+            + " || execution(public * com.prgrms.offer.domain.member.service.MemberService.*(..))")
+    public void serviceMethods() {
+    }
+
+    @Around("serviceMethods()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(timers.computeIfAbsent(method, m -> timer(m, NO_EXCEPTION)));
+            return result;
+        } catch (Throwable e) {
+            sample.stop(timer(method, exceptionTag(e)));
+            throw e;
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Execution time of service methods")
+                .tags("class", method.getDeclaringClass().getSimpleName(),
+                        "method", method.getName(),
+                        "exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String exceptionTag(Throwable e) {
+        if (e instanceof BusinessException) {
+            return ((BusinessException) e).getResponseMessage().name();
+        }
+        return e.getClass().getSimpleName();
+    }
+}
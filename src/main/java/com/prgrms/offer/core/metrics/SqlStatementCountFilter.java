@@ -0,0 +1,59 @@
+package com.prgrms.offer.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나를 처리하는 동안 실행된 SQL 문 개수를 offer.http.sql.statements 분포로 기록 (method, uri tag)
+ * N+1 이 생기면 해당 uri 의 요청당 SQL 문 개수가 튀는 것으로 드러남
+ * JwtAuthenticationFilter 의 회원 조회까지 포함되도록 security filter 보다 앞에 둠
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "offer.http.sql.statements";
+
+    // 매핑되지 않은 요청은 uri 별로 tag 가 늘어나지 않도록 하나로 묶음
+    private static final String UNMATCHED_URI = "UNMATCHED";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementCountFilter(SqlStatementCounter sqlStatementCounter, MeterRegistry meterRegistry) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        sqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = sqlStatementCounter.stop();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements executed per request")
+                    .baseUnit("statements")
+                    .tags("method", request.getMethod(),
+                            "uri", pattern == null ? UNMATCHED_URI : pattern.toString())
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1_000.0)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.prgrms.offer.core.metrics;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청(스레드) 단위로 실행된 SQL 문 개수를 셈
+ * SqlStatementCountingDataSource 가 실행마다 count 를 부르므로 Hibernate 와 JdbcTemplate 의 SQL 문을 모두 셈
+ * SqlStatementCountFilter 가 요청 시작 시 start, 끝날 때 stop 으로 개수를 가져감
+ */
+@Component
+public class SqlStatementCounter {
+
+    // 요청 처리 중이 아닌 스레드(스케줄러 등)에서는 null 이라 세지 않음
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    void count() {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    public void start() {
+        counts.set(new int[1]);
+    }
+
+    public int stop() {
+        int[] count = counts.get();
+        counts.remove();
+        return count == null ? 0 : count[0];
+    }
+}
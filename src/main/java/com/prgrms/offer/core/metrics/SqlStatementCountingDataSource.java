@@ -0,0 +1,67 @@
+package com.prgrms.offer.core.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션에서 만든 Statement 의 execute* 호출마다 SqlStatementCounter 에 세는 DataSource
+ * Hibernate 와 JdbcTemplate 이 같은 DataSource 를 쓰므로 둘 다 셈 (batch 실행은 한 번으로 셈)
+ * unwrap 은 DelegatingDataSource 가 원래 DataSource 로 넘기므로 Hikari metrics 등은 그대로 동작함
+ */
+public class SqlStatementCountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    public SqlStatementCountingDataSource(DataSource targetDataSource, SqlStatementCounter sqlStatementCounter) {
+        super(targetDataSource);
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return result instanceof Statement ? countingStatement((Statement) result) : result;
+                });
+    }
+
+    private Statement countingStatement(Statement statement) {
+        Class<?> statementType = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{statementType},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        sqlStatementCounter.count();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
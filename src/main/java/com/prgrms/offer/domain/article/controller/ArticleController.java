@@ -2,8 +2,10 @@ package com.prgrms.offer.domain.article.controller;
 
 import com.prgrms.offer.common.ApiResponse;
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.page.Cursor;
 import com.prgrms.offer.common.page.PageDto;
 import com.prgrms.offer.common.page.PageInfo;
+import com.prgrms.offer.common.page.TotalCountMode;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.dto.*;
@@ -14,6 +16,7 @@ import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
@@ -23,7 +26,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.Valid;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,7 +41,7 @@ public class ArticleController {
 
     @ApiOperation("이미지 -> URL 변환")
     @PostMapping(value = "/imageUrls", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse> convertToImageUrls(@ModelAttribute List<MultipartFile> images) throws IOException {
+    public ResponseEntity<ApiResponse> convertToImageUrls(@ModelAttribute List<MultipartFile> images) {
 
         if (images == null || images.isEmpty()) {
             throw new BusinessException(ResponseMessage.INVALID_IMAGE_EXCEPTION);
@@ -95,9 +97,25 @@ public class ArticleController {
             @RequestParam(value = "categoryCode", required = false) Integer categoryCode,
             @RequestParam(value = "memberId", required = false) Long memberId,
             @RequestParam(value = "tradeStatusCode", required = false) Integer tradeStatusCode,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal JwtAuthentication authentication
     ) {
 
+        if (cursor != null) { // cursor 모드: 비어 있으면 첫 페이지, 값이 있으면 해당 위치 다음부터 조회
+            Slice<ArticleBriefViewResponse> sliceResponses = articleService.findAllByCursor(
+                    Optional.of(cursor).filter(c -> !c.isBlank()).map(Cursor::parse),
+                    pageable.getPageSize(),
+                    Optional.ofNullable(categoryCode),
+                    Optional.ofNullable(memberId),
+                    Optional.ofNullable(tradeStatusCode),
+                    Optional.ofNullable(authentication)
+            );
+
+            return ResponseEntity.ok(
+                    ApiResponse.of(ResponseMessage.SUCCESS, PageDto.ofCursor(sliceResponses.getContent(), Cursor.next(sliceResponses, ArticleBriefViewResponse::getCreatedDate, ArticleBriefViewResponse::getId)))
+            );
+        }
+
         Page<ArticleBriefViewResponse> pageResponses = articleService.findAllByPages(
                 pageable,
                 Optional.ofNullable(categoryCode),
@@ -203,7 +221,7 @@ public class ArticleController {
     @GetMapping("/like-articles")
     public ResponseEntity<ApiResponse> getLikeArticles(
             @RequestParam Integer tradeStatusCode,
-            @PageableDefault(sort = "created_date", direction = Sort.Direction.DESC, size = 20) Pageable pageable,
+            @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC, size = 20) Pageable pageable,
             @AuthenticationPrincipal JwtAuthentication authentication) {
 
         Page<ArticleBriefViewResponse> responses = articleService.getLikeArticlesWithTradeStatusCode(pageable, authentication, tradeStatusCode);
@@ -226,7 +244,8 @@ public class ArticleController {
                 pageResponses.getPageable().getPageSize(),
                 pageResponses.getTotalElements(),
                 pageResponses.isLast(),
-                pageResponses.isFirst()
+                pageResponses.isFirst(),
+                TotalCountMode.of(pageResponses)
         );
     }
 
@@ -16,7 +16,7 @@ public class ArticleDetailResponse {
     private ArticleDto article;
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     public static class ArticleDto{
 
@@ -15,9 +15,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(indexes = {
-        @Index(name = "article_idx_writer_id", columnList = "writer_id"),
-        @Index(name = "article_idx_category_code", columnList = "categoryCode"),
-        @Index(name = "article_idx_trade_status_code", columnList = "tradeStatusCode"),
+        @Index(name = "article_idx_writer_id_created_date_article_id", columnList = "writer_id, createdDate DESC, article_id DESC"),
+        @Index(name = "article_idx_created_date_article_id", columnList = "createdDate DESC, article_id DESC"),
+        @Index(name = "article_idx_category_code_created_date_article_id", columnList = "categoryCode, createdDate DESC, article_id DESC"),
+        @Index(name = "article_idx_trade_status_code_created_date_article_id", columnList = "tradeStatusCode, createdDate DESC, article_id DESC"),
         @Index(name = "article_idx_writer_id_trade_status_code", columnList = "writer_id, tradeStatusCode")
 })
 public class Article {
@@ -97,21 +98,10 @@ public class Article {
         modifiedDate = LocalDateTime.now();
     }
 
-    public void addLikeCount(){
-        this.likeCount++;
-    }
-
     public void addViewCount(){
         this.viewCount++;
     }
 
-    public void subtractLikeCount(){
-        if(this.likeCount <= 0)
-            throw new BusinessException(ResponseMessage.INTERNAL_SERVER_ERROR);
-
-        this.likeCount--;
-    }
-
     public void updateMainImageUrl(String mainImageUrl) {
         this.mainImageUrl = mainImageUrl;
         modifiedDate = LocalDateTime.now();
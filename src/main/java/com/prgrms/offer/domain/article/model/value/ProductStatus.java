@@ -1,37 +1,40 @@
 package com.prgrms.offer.domain.article.model.value;
 
 import com.prgrms.offer.common.message.ResponseMessage;
-import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.common.utils.CodeTable;
+import com.prgrms.offer.domain.article.model.dto.CodeAndName;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 @Getter
-@RequiredArgsConstructor
 public enum ProductStatus {
     NEW("새상품", 2),
     OLD("중고상품", 4),
 
     ;
 
+    private static final CodeTable<ProductStatus> CODES = CodeTable.of(values(), ProductStatus::getCode, ProductStatus::getName, ResponseMessage.PRODUCT_STATUS_NOT_FOUND);
+
     private final String name;
     private final int code;
 
+    // 응답마다 새로 만들지 않도록 미리 만들어 둔 (불변) 코드와 이름
+    private final CodeAndName codeAndName;
+
+    ProductStatus(String name, int code) {
+        this.name = name;
+        this.code = code;
+        this.codeAndName = new CodeAndName(code, name);
+    }
+
     public static ProductStatus of(int code) {
-        return Arrays.stream(ProductStatus.values())
-                .filter(v -> v.code == code)
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ResponseMessage.PRODUCT_STATUS_NOT_FOUND));
+        return CODES.of(code);
     }
 
     public static ProductStatus of(String name) {
-        return Arrays.stream(ProductStatus.values())
-                .filter(v -> v.name.equals(name))
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ResponseMessage.PRODUCT_STATUS_NOT_FOUND));
+        return CODES.of(name);
     }
 
     public static List<ProductStatus> getAllProductStatus() {
@@ -1,16 +1,14 @@
 package com.prgrms.offer.domain.article.model.value;
 
 import com.prgrms.offer.common.message.ResponseMessage;
-import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.common.utils.CodeTable;
+import com.prgrms.offer.domain.article.model.dto.CodeAndName;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 @Getter
-@RequiredArgsConstructor
 public enum TradeStatus {
     RESERVING("예약중", 2),
     ON_SALE("판매중", 4),
@@ -18,21 +16,26 @@ public enum TradeStatus {
 
     ;
 
+    private static final CodeTable<TradeStatus> CODES = CodeTable.of(values(), TradeStatus::getCode, TradeStatus::getName, ResponseMessage.TRADE_STATUS_NOT_FOUND);
+
     private final String name;
     private final int code;
 
+    // 응답마다 새로 만들지 않도록 미리 만들어 둔 (불변) 코드와 이름
+    private final CodeAndName codeAndName;
+
+    TradeStatus(String name, int code) {
+        this.name = name;
+        this.code = code;
+        this.codeAndName = new CodeAndName(code, name);
+    }
+
     public static TradeStatus of(int code) {
-        return Arrays.stream(TradeStatus.values())
-                .filter(v -> v.code == code)
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ResponseMessage.TRADE_STATUS_NOT_FOUND));
+        return CODES.of(code);
     }
 
     public static TradeStatus of(String name) {
-        return Arrays.stream(TradeStatus.values())
-                .filter(v -> v.name.equals(name))
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ResponseMessage.TRADE_STATUS_NOT_FOUND));
+        return CODES.of(name);
     }
 
     public static List<TradeStatus> getAllTradeStatus() {
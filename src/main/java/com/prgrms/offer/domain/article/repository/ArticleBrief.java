@@ -0,0 +1,27 @@
+package com.prgrms.offer.domain.article.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 조회(ArticleBriefViewResponse)에 필요한 컬럼만 담은 projection (content 등은 조회하지 않음)
+@AllArgsConstructor
+@Getter
+public class ArticleBrief {
+    private Long id;
+
+    private String mainImageUrl;
+
+    private String title;
+
+    private Integer price;
+
+    private String tradeArea;
+
+    private Integer tradeStatusCode;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime modifiedDate;
+}
@@ -5,8 +5,11 @@ import com.prgrms.offer.domain.member.model.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long>, CustomizedArticleRepository {
@@ -22,37 +25,47 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Customi
     @Override
     boolean existsById(Long aLong);
 
-    Page<Article> findByTitleIgnoreCaseContainsAndTradeStatusCodeIn(String title, Integer[] tradeStatusCodeArray, Pageable pageable);
-
-    Page<Article> findAllByCategoryCode(Pageable pageable, int categoryCode);
-
-    Page<Article> findAllByWriterIdAndTradeStatusCode(Pageable pageable, Long writerId, int tradeStatusCode);
-
-    Page<Article> findAllByTradeStatusCode(Pageable pageable, int tradeStatusCode);
-
-    Page<Article> findAllByWriterId(Pageable pageable, Long writerId);
-
     long countArticlesByWriter(Member member);
 
-    @Query(value = "select * from article where article_id in (select like_article.article_id from like_article where member_id = ?1)" +
-            "and (trade_status_code = 2 or trade_status_code = 4)",
-            countQuery = "select count(*) from article where article_id in (select like_article.article_id from like_article where member_id = ?1)" +
-                    "and (trade_status_code = 2 or trade_status_code = 4)",
-            nativeQuery = true)
-    Page<Article> findLikedSellingArticleByMember(long memberId, Pageable pageable);
-
-    @Query(value = "select * from article where article_id in (select like_article.article_id from like_article where member_id = ?1)" +
-            "and trade_status_code = 8",
-            countQuery = "select count(*) from article where article_id in (select like_article.article_id from like_article where member_id = ?1)" +
-                    "and trade_status_code = 8",
-            nativeQuery = true)
-    Page<Article> findLikedCompletedArticleByMember(long memberId, Pageable pageable);
-
-    @Query("select a from Article a where a.writer.id = :writerId and a.tradeStatusCode <> 8")
-    Page<Article> findAllByWriterIdAndTradeInProgress(Pageable pageable, Long writerId);
-
-    @Query("select a from Article a where a.tradeStatusCode <> 8")
-    Page<Article> findAllByTradeInProgress(Pageable pageable);
+    // 상세 조회용 (트랜잭션 밖에서 응답을 만들 수 있도록 작성자를 함께 조회)
+    @Query("select a from Article a join fetch a.writer where a.id = :articleId")
+    Optional<Article> findWithWriterById(Long articleId);
+
+    @Modifying
+    @Query("update Article a set a.likeCount = a.likeCount + 1 where a.id = :articleId")
+    int increaseLikeCount(Long articleId);
+
+    @Modifying
+    @Query("update Article a set a.likeCount = a.likeCount - 1 where a.id = :articleId and a.likeCount > 0")
+    int decreaseLikeCount(Long articleId);
+
+    @Query(value = "select " +
+            "new com.prgrms.offer.domain.article.repository.ArticleBrief(a.id, a.mainImageUrl, a.title, a.price, a.tradeArea, a.tradeStatusCode, a.createdDate, a.modifiedDate) " +
+            "from Article a where a.id in (select la.article.id from LikeArticle la where la.member.id = :memberId) " +
+            "and (a.tradeStatusCode = 2 or a.tradeStatusCode = 4)",
+            countQuery = "select count(a) from Article a where a.id in (select la.article.id from LikeArticle la where la.member.id = :memberId) " +
+                    "and (a.tradeStatusCode = 2 or a.tradeStatusCode = 4)")
+    Page<ArticleBrief> findLikedSellingArticleByMember(long memberId, Pageable pageable);
+
+    @Query(value = "select " +
+            "new com.prgrms.offer.domain.article.repository.ArticleBrief(a.id, a.mainImageUrl, a.title, a.price, a.tradeArea, a.tradeStatusCode, a.createdDate, a.modifiedDate) " +
+            "from Article a where a.id in (select la.article.id from LikeArticle la where la.member.id = :memberId) " +
+            "and a.tradeStatusCode = 8",
+            countQuery = "select count(a) from Article a where a.id in (select la.article.id from LikeArticle la where la.member.id = :memberId) " +
+                    "and a.tradeStatusCode = 8")
+    Page<ArticleBrief> findLikedCompletedArticleByMember(long memberId, Pageable pageable);
+
+    @Query(value = "select " +
+            "new com.prgrms.offer.domain.article.repository.ArticleBrief(a.id, a.mainImageUrl, a.title, a.price, a.tradeArea, a.tradeStatusCode, a.createdDate, a.modifiedDate) " +
+            "from Offer o join o.article a where o.offerer = :offerer and o.isSelected = true",
+            countQuery = "select count(o) from Offer o join o.article a where o.offerer = :offerer and o.isSelected = true")
+    Page<ArticleBrief> findAllBoughtByOfferer(Member offerer, Pageable pageable);
+
+    // 목록 조회용 컬럼만 id 로 조회 (순서는 보장하지 않음)
+    @Query("select " +
+            "new com.prgrms.offer.domain.article.repository.ArticleBrief(a.id, a.mainImageUrl, a.title, a.price, a.tradeArea, a.tradeStatusCode, a.createdDate, a.modifiedDate) " +
+            "from Article a where a.id in :articleIds")
+    List<ArticleBrief> findAllBriefsByIdIn(Collection<Long> articleIds);
 
     @Query("select " +
             "new com.prgrms.offer.domain.article.repository.TemporalArticle(max(o.article.id), max(o.article.mainImageUrl), max(o.article.title), max(o.article.price), max(o.article.tradeArea), max(o.article.tradeStatusCode), a.createdDate, max(o.article.modifiedDate)) " +
@@ -67,4 +80,10 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Customi
             "where o.offerer = :offerer and o.article.tradeStatusCode <> 8 " +
             "group by a.createdDate")
     Page<TemporalArticle> findAllByOffererAndTradeInProgress(Member offerer, Pageable pageable);
-}
\ No newline at end of file
+
+    // 검색 인덱스 적재용 (id 기준 keyset 으로 나누어 조회)
+    @Query("select " +
+            "new com.prgrms.offer.domain.article.repository.ArticleSearchDocument(a.id, a.title, a.categoryCode, a.tradeMethodCode, a.tradeStatusCode, a.price) " +
+            "from Article a where a.id > :lastId order by a.id")
+    List<ArticleSearchDocument> findSearchDocumentsAfter(Long lastId, Pageable pageable);
+}
@@ -0,0 +1,33 @@
+package com.prgrms.offer.domain.article.repository;
+
+import com.prgrms.offer.domain.article.model.entity.Article;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 메모리 검색 인덱스를 구성하는 데 필요한 컬럼만 담은 projection
+@AllArgsConstructor
+@Getter
+public class ArticleSearchDocument {
+    private Long id;
+
+    private String title;
+
+    private Integer categoryCode;
+
+    private Integer tradeMethodCode;
+
+    private Integer tradeStatusCode;
+
+    private Integer price;
+
+    public static ArticleSearchDocument from(Article article) {
+        return new ArticleSearchDocument(
+                article.getId(),
+                article.getTitle(),
+                article.getCategoryCode(),
+                article.getTradeMethodCode(),
+                article.getTradeStatusCode(),
+                article.getPrice()
+        );
+    }
+}
@@ -1,14 +1,28 @@
 package com.prgrms.offer.domain.article.repository;
 
+import com.prgrms.offer.common.page.Cursor;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 
 public interface CustomizedArticleRepository {
 
-    List<Article> findByOnSaleOrBookedInAndFilter(SearchFilterRequest searchFilterRequest, Pageable pageable);
+    List<ArticleBrief> findByOnSaleOrBookedInAndFilter(SearchFilterRequest searchFilterRequest, Collection<Long> titleMatchedArticleIds, Pageable pageable);
 
-    Long countAllByOnSaleOrBookedInAndFilter(SearchFilterRequest searchFilterRequest);
+    Long countAllByOnSaleOrBookedInAndFilter(SearchFilterRequest searchFilterRequest, Collection<Long> titleMatchedArticleIds);
+
+    void addViewCounts(Map<Long, Long> viewCountDeltas);
+
+    void deleteWithDetachingReferences(Article article);
+
+    List<ArticleBrief> findAllBriefs(Integer categoryCode, Long writerId, Integer tradeStatusCode, Pageable pageable);
+
+    long countAllBriefs(Integer categoryCode, Long writerId, Integer tradeStatusCode);
+
+    Slice<ArticleBrief> findAllBriefsByCursor(Cursor cursor, int size, Integer categoryCode, Long writerId, Integer tradeStatusCode);
 }
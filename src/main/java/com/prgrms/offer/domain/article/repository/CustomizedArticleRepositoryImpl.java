@@ -2,16 +2,31 @@ package com.prgrms.offer.domain.article.repository;
 
 import static com.prgrms.offer.domain.article.model.entity.QArticle.article;
 
+import com.prgrms.offer.common.page.Cursor;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.model.value.TradeStatus;
 import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
 
 public class CustomizedArticleRepositoryImpl extends QuerydslRepositorySupport implements
     CustomizedArticleRepository {
@@ -19,37 +34,58 @@ public class CustomizedArticleRepositoryImpl extends QuerydslRepositorySupport i
     private static final List<Integer> tradeStatusOnSaleOrBooked =
         Arrays.asList(TradeStatus.ON_SALE.getCode(), TradeStatus.RESERVING.getCode());
 
+    // 제목 역색인 후보 id 를 IN 절로 넘기는 최대 개수
+    static final int MAX_TITLE_MATCHED_ARTICLE_IDS = 1_000;
+
+    private static final String ADD_VIEW_COUNT_SQL =
+        "UPDATE article SET view_count = view_count + ? WHERE article_id = ?";
+
+    // 게시글을 참조하는 테이블의 FK 를 끊은 뒤 게시글을 삭제 (%d 에는 검증한 long 게시글 id 만 넣음)
+    private static final List<String> DELETE_WITH_DETACHING_REFERENCES_SQL = List.of(
+        "UPDATE product_image SET article_id = NULL WHERE article_id = %d",
+        "UPDATE like_article SET article_id = NULL WHERE article_id = %d",
+        "UPDATE offer SET article_id = NULL WHERE article_id = %d",
+        "UPDATE review SET article_id = NULL WHERE article_id = %d",
+        "UPDATE message_room SET article_id = NULL WHERE article_id = %d",
+        "DELETE FROM article WHERE article_id = %d"
+    );
+
     private final JPAQueryFactory jpaQueryFactory;
 
-    public CustomizedArticleRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomizedArticleRepositoryImpl(JPAQueryFactory jpaQueryFactory, JdbcTemplate jdbcTemplate) {
         super(Article.class);
         this.jpaQueryFactory = jpaQueryFactory;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public List<Article> findByOnSaleOrBookedInAndFilter(
+    public List<ArticleBrief> findByOnSaleOrBookedInAndFilter(
         SearchFilterRequest searchFilterRequest,
+        Collection<Long> titleMatchedArticleIds,
         Pageable pageable) {
 
-        JPAQuery<Article> query = jpaQueryFactory.selectFrom(article)
+        JPAQuery<ArticleBrief> query = jpaQueryFactory.select(articleBrief())
+            .from(article)
             .where(
                 onSaleOrBooked(),
-                containsIgnoreTitle(searchFilterRequest.getTitle()),
+                titleMatches(searchFilterRequest.getTitle(), titleMatchedArticleIds),
                 eqCategoryCode(searchFilterRequest.getCategoryCode()),
                 eqTradeMethodCode(searchFilterRequest.getTradeMethodCode()),
                 priceInRange(searchFilterRequest.getMinPrice(), searchFilterRequest.getMaxPrice()));
 
-        List<Article> articleList = getQuerydsl().applyPagination(pageable, query).fetch();
-        return articleList;
+        return getQuerydsl().applyPagination(pageable, query).fetch();
     }
 
     @Override
     public Long countAllByOnSaleOrBookedInAndFilter(
-        SearchFilterRequest searchFilterRequest) {
+        SearchFilterRequest searchFilterRequest,
+        Collection<Long> titleMatchedArticleIds) {
         return jpaQueryFactory.selectFrom(article)
             .where(
                 onSaleOrBooked(),
-                containsIgnoreTitle(searchFilterRequest.getTitle()),
+                titleMatches(searchFilterRequest.getTitle(), titleMatchedArticleIds),
                 eqCategoryCode(searchFilterRequest.getCategoryCode()),
                 eqTradeMethodCode(searchFilterRequest.getTradeMethodCode()),
                 priceInRange(searchFilterRequest.getMinPrice(), searchFilterRequest.getMaxPrice())
@@ -57,12 +93,171 @@ public class CustomizedArticleRepositoryImpl extends QuerydslRepositorySupport i
             .fetchCount();
     }
 
+    // 누적된 조회수 증가분을 JDBC batch 한 번으로 반영 (엔티티를 로딩하지 않고 상대값으로 갱신)
+    @Override
+    public void addViewCounts(Map<Long, Long> viewCountDeltas) {
+        List<Object[]> batchArgs = new ArrayList<>(viewCountDeltas.size());
+        viewCountDeltas.forEach((articleId, delta) -> batchArgs.add(new Object[]{delta, articleId}));
+
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs);
+    }
+
+    // 참조를 끊는 update 와 delete 를 Statement 하나의 batch 로 묶어 executeBatch 한 번에 실행
+    // (MySQL 은 rewriteBatchedStatements=true 일 때 한 번의 round trip 으로 보냄)
+    // SQL 마다 문장이 달라 PreparedStatement 하나로는 batch 할 수 없으므로, 양수로 검증한 long id 를 문자열로 넣음
+    // (영속성 컨텍스트를 매번 비우던 @Modifying(clearAutomatically) update 들을 대체하며, 삭제한 게시글만 detach)
+    @Override
+    public void deleteWithDetachingReferences(Article deleted) {
+        getEntityManager().flush();
+
+        long articleId = deleted.getId();
+        if (articleId <= 0) {
+            throw new IllegalArgumentException("invalid article id: " + articleId);
+        }
+
+        jdbcTemplate.execute((StatementCallback<int[]>) statement -> {
+            for (String sql : DELETE_WITH_DETACHING_REFERENCES_SQL) {
+                statement.addBatch(String.format(Locale.ROOT, sql, articleId));
+            }
+            return statement.executeBatch();
+        });
+
+        getEntityManager().detach(deleted);
+    }
+
+    /**
+     * 카테고리, 작성자, 거래상태의 모든 조합과 정렬을 지원하는 목록 조회
+     * 먼저 조건과 정렬 컬럼만으로(인덱스만 읽고) 현재 페이지의 id 를 구한 뒤, 해당 id 의 목록용 컬럼만 조회
+     */
+    @Override
+    public List<ArticleBrief> findAllBriefs(
+        Integer categoryCode,
+        Long writerId,
+        Integer tradeStatusCode,
+        Pageable pageable) {
+
+        JPAQuery<Long> idQuery = jpaQueryFactory.select(article.id)
+            .from(article)
+            .where(
+                eqCategoryCode(categoryCode),
+                eqWriterId(writerId),
+                eqTradeStatusGroup(tradeStatusCode));
+
+        getQuerydsl().applySorting(pageable.getSort(), idQuery);
+        idQuery.orderBy(article.id.desc());
+        if (pageable.isPaged()) {
+            idQuery.offset(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+
+        List<Long> articleIds = idQuery.fetch();
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleBrief> articleBriefs = jpaQueryFactory.select(articleBrief())
+            .from(article)
+            .where(article.id.in(articleIds))
+            .fetch().stream()
+            .collect(Collectors.toMap(ArticleBrief::getId, Function.identity()));
+
+        // id 조회와 본문 조회 사이에 삭제된 게시글은 건너뜀
+        return articleIds.stream()
+            .map(articleBriefs::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countAllBriefs(Integer categoryCode, Long writerId, Integer tradeStatusCode) {
+        Long count = jpaQueryFactory.select(article.id.count())
+            .from(article)
+            .where(
+                eqCategoryCode(categoryCode),
+                eqWriterId(writerId),
+                eqTradeStatusGroup(tradeStatusCode))
+            .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
+    // offset 대신 (createdDate, id) 기준으로 seek 하고, 다음 페이지 존재 여부는 size + 1개를 조회해 판단
+    @Override
+    public Slice<ArticleBrief> findAllBriefsByCursor(
+        Cursor cursor,
+        int size,
+        Integer categoryCode,
+        Long writerId,
+        Integer tradeStatusCode) {
+
+        List<ArticleBrief> articleBriefs = jpaQueryFactory.select(articleBrief())
+            .from(article)
+            .where(
+                eqCategoryCode(categoryCode),
+                eqWriterId(writerId),
+                eqTradeStatusGroup(tradeStatusCode),
+                afterCursor(cursor))
+            .orderBy(article.createdDate.desc(), article.id.desc())
+            .limit(size + 1)
+            .fetch();
+
+        boolean hasNext = articleBriefs.size() > size;
+        if (hasNext) {
+            articleBriefs = articleBriefs.subList(0, size);
+        }
+
+        return new SliceImpl<>(articleBriefs, PageRequest.of(0, size), hasNext);
+    }
+
+    private ConstructorExpression<ArticleBrief> articleBrief() {
+        return Projections.constructor(ArticleBrief.class,
+            article.id,
+            article.mainImageUrl,
+            article.title,
+            article.price,
+            article.tradeArea,
+            article.tradeStatusCode,
+            article.createdDate,
+            article.modifiedDate);
+    }
+
     private BooleanExpression onSaleOrBooked() {
         return article.tradeStatusCode.in(tradeStatusOnSaleOrBooked);
     }
 
-    private BooleanExpression containsIgnoreTitle(String title) {
-        return title == null ? null : article.title.containsIgnoreCase(title);
+    private BooleanExpression afterCursor(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return article.createdDate.lt(cursor.getCreatedDate())
+            .or(article.createdDate.eq(cursor.getCreatedDate()).and(article.id.lt(cursor.getId())));
+    }
+
+    private BooleanExpression eqWriterId(Long writerId) {
+        return writerId == null ? null : article.writer.id.eq(writerId);
+    }
+
+    // 거래완료는 거래완료만, 그 외의 코드는 예약중 또는 판매중 전체를 조회
+    private BooleanExpression eqTradeStatusGroup(Integer tradeStatusCode) {
+        if (tradeStatusCode == null) {
+            return null;
+        }
+
+        return TradeStatus.isCompleted(tradeStatusCode)
+            ? article.tradeStatusCode.eq(tradeStatusCode)
+            : article.tradeStatusCode.ne(TradeStatus.COMPLETED.getCode());
+    }
+
+    // 제목 조건은 like '%x%' 대신 제목 역색인(ArticleTitleIndex)에서 찾은 id 로 거름
+    // 후보가 너무 많으면 IN 절이 커지므로 같은 결과를 내는 like 조건으로 대신함
+    private BooleanExpression titleMatches(String title, Collection<Long> titleMatchedArticleIds) {
+        if (titleMatchedArticleIds == null) {
+            return null;
+        }
+
+        return titleMatchedArticleIds.size() > MAX_TITLE_MATCHED_ARTICLE_IDS
+            ? article.title.containsIgnoreCase(title)
+            : article.id.in(titleMatchedArticleIds);
     }
 
     private BooleanExpression eqCategoryCode(Integer categoryCode) {
@@ -0,0 +1,8 @@
+package com.prgrms.offer.domain.article.repository;
+
+import java.util.List;
+
+public interface CustomizedProductImageRepository {
+
+    void saveAllInBulk(Long articleId, List<String> imageUrls);
+}
@@ -0,0 +1,34 @@
+package com.prgrms.offer.domain.article.repository;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class CustomizedProductImageRepositoryImpl implements CustomizedProductImageRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO product_image (image_url, article_id) VALUES ";
+    private static final String VALUES_SQL = "(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomizedProductImageRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // IDENTITY 전략에서는 Hibernate 가 insert 를 batch 로 묶지 못하므로 multi-row insert 한 번으로 저장
+    @Override
+    public void saveAllInBulk(Long articleId, List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        Object[] args = new Object[imageUrls.size() * 2];
+        for (int i = 0; i < imageUrls.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(VALUES_SQL);
+            args[i * 2] = imageUrls.get(i);
+            args[i * 2 + 1] = articleId;
+        }
+
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -1,22 +1,33 @@
 package com.prgrms.offer.domain.article.repository;
 
-import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.common.utils.LongSet;
 import com.prgrms.offer.domain.article.model.entity.LikeArticle;
 import com.prgrms.offer.domain.member.model.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-public interface LikeArticleRepository extends JpaRepository<LikeArticle, Long> {
-    boolean existsByMemberAndArticle(Member member, Article article);
+import java.util.Collection;
+import java.util.List;
 
-    void deleteByMemberIdAndArticleId(Long memberId, Long articleId);
+public interface LikeArticleRepository extends JpaRepository<LikeArticle, Long> {
+    @Modifying
+    @Query("DELETE FROM LikeArticle la WHERE la.member = :member AND la.article.id = :articleId")
+    int deleteByMemberAndArticleIdInBulk(Member member, Long articleId);
 
     long countLikeArticlesByMember(Member member);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE LikeArticle la SET la.article = NULL WHERE la.article = :article")
-    void doOnDeleteSetNullFromArticle(Article article);
-
     boolean existsByMemberAndArticleId(Member currentMember, Long articleId);
+
+    @Query("SELECT la.article.id FROM LikeArticle la WHERE la.member = :member AND la.article.id IN :articleIds")
+    List<Long> findArticleIdsByMemberAndArticleIdIn(Member member, Collection<Long> articleIds);
+
+    // 목록 조회 시 게시글마다 exists 쿼리를 날리지 않도록 한 번의 IN 쿼리로 좋아요 여부를 조회
+    default LongSet findLikedArticleIds(Member member, Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return LongSet.empty();
+        }
+
+        return LongSet.of(findArticleIdsByMemberAndArticleIdIn(member, articleIds));
+    }
 }
@@ -8,15 +8,15 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
-public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long>, CustomizedProductImageRepository {
     @Override
     <S extends ProductImage> S save(S entity);
 
-    void deleteAllByArticle(Article article);
+    // 파생 delete 는 조회 후 한 건씩 삭제하므로 delete 문 하나로 지움
+    @Modifying
+    @Query("DELETE FROM ProductImage pi WHERE pi.article = :article")
+    int deleteAllByArticleInBulk(Article article);
 
     List<ProductImage> findAllByArticleId(Long articleId);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE ProductImage pi SET pi.article = NULL WHERE pi.article = :article")
-    void doOnDeleteSetNullFromArticle(Article article);
 }
@@ -1,11 +1,13 @@
 package com.prgrms.offer.domain.article.service;
 
+import com.prgrms.offer.common.utils.ImageVariant;
 import com.prgrms.offer.domain.article.model.dto.*;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.model.value.Category;
 import com.prgrms.offer.domain.article.model.value.ProductStatus;
 import com.prgrms.offer.domain.article.model.value.TradeMethod;
 import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.article.repository.ArticleBrief;
 import com.prgrms.offer.domain.article.repository.TemporalArticle;
 import com.prgrms.offer.domain.member.model.entity.Member;
 import org.springframework.stereotype.Component;
@@ -14,41 +16,31 @@ import java.time.LocalDateTime;
 
 @Component
 public class ArticleConverter {
-    public ArticleBriefViewResponse toArticleBriefViewResponse(Article article, boolean isLiked){
+    public ArticleBriefViewResponse toArticleBriefViewResponse(ArticleBrief articleBrief, boolean isLiked){
         return ArticleBriefViewResponse.builder()
-                .id(article.getId())
-                .mainImageUrl(article.getMainImageUrl())
-                .title(article.getTitle())
-                .price(article.getPrice())
-                .tradeArea(article.getTradeArea())
-                .createdDate(article.getCreatedDate())
-                .modifiedDate(article.getModifiedDate())
+                .id(articleBrief.getId())
+                .mainImageUrl(ImageVariant.LIST.urlOf(articleBrief.getMainImageUrl()))
+                .title(articleBrief.getTitle())
+                .price(articleBrief.getPrice())
+                .tradeArea(articleBrief.getTradeArea())
+                .createdDate(articleBrief.getCreatedDate())
+                .modifiedDate(articleBrief.getModifiedDate())
                 .isLiked(isLiked)
-                .tradeStatus(
-                        new CodeAndName(
-                                TradeStatus.of(article.getTradeStatusCode()).getCode(),
-                                TradeStatus.of(article.getTradeStatusCode()).getName()
-                        )
-                )
+                .tradeStatus(TradeStatus.of(articleBrief.getTradeStatusCode()).getCodeAndName())
                 .build();
     }
 
     public ArticleBriefViewResponse toArticleBriefViewResponse(TemporalArticle temporalArticle, boolean isLiked){
         return ArticleBriefViewResponse.builder()
                 .id(temporalArticle.getId())
-                .mainImageUrl(temporalArticle.getMainImageUrl())
+                .mainImageUrl(ImageVariant.LIST.urlOf(temporalArticle.getMainImageUrl()))
                 .title(temporalArticle.getTitle())
                 .price(temporalArticle.getPrice())
                 .tradeArea(temporalArticle.getTradeArea())
                 .createdDate(temporalArticle.getCreatedDate())
                 .modifiedDate(temporalArticle.getModifiedDate())
                 .isLiked(isLiked)
-                .tradeStatus(
-                        new CodeAndName(
-                                TradeStatus.of(temporalArticle.getTradeStatusCode()).getCode(),
-                                TradeStatus.of(temporalArticle.getTradeStatusCode()).getName()
-                        )
-                )
+                .tradeStatus(TradeStatus.of(temporalArticle.getTradeStatusCode()).getCodeAndName())
                 .build();
     }
 
@@ -56,23 +48,19 @@ public class ArticleConverter {
         var response = new CodeAndNameInfosResponse();
 
         for(var category : Category.getAllCategory()){
-            var codeAndName = new CodeAndName(category.getCode(), category.getName());
-            response.getCategories().add(codeAndName);
+            response.getCategories().add(category.getCodeAndName());
         }
 
         for(var productStatus : ProductStatus.getAllProductStatus()){
-            var codeAndName = new CodeAndName(productStatus.getCode(), productStatus.getName());
-            response.getProductStatus().add(codeAndName);
+            response.getProductStatus().add(productStatus.getCodeAndName());
         }
 
         for(var tradeMethod : TradeMethod.getAllTradeMethod()){
-            var codeAndName = new CodeAndName(tradeMethod.getCode(), tradeMethod.getName());
-            response.getTradeMethod().add(codeAndName);
+            response.getTradeMethod().add(tradeMethod.getCodeAndName());
         }
 
         for(var tradeStatus : TradeStatus.getAllTradeStatus()){
-            var codeAndName = new CodeAndName(tradeStatus.getCode(), tradeStatus.getName());
-            response.getTradeStatus().add(codeAndName);
+            response.getTradeStatus().add(tradeStatus.getCodeAndName());
         }
 
         return response;
@@ -106,10 +94,11 @@ public class ArticleConverter {
         );
     }
 
-    public ArticleDetailResponse toArticleDetailResponse(Article article, boolean isLiked) {
+    // 조회하는 회원과 무관한 부분만 채움 (좋아요 여부는 비워 두고, 조회수는 DB 에 반영된 값)
+    public ArticleDetailResponse.ArticleDto toArticleDetail(Article article) {
         Member writer = article.getWriter();
 
-        var articleDto = ArticleDetailResponse.ArticleDto.builder()
+        return ArticleDetailResponse.ArticleDto.builder()
                 .id(article.getId())
                 .author(
                         ArticleDetailResponse.AuthorDetail.builder()
@@ -123,40 +112,26 @@ public class ArticleConverter {
                 )
                 .title(article.getTitle())
                 .content(article.getContent())
-                .category(
-                        new CodeAndName(
-                                Category.of(article.getCategoryCode()).getCode(),
-                                Category.of(article.getCategoryCode()).getName()
-                        )
-                )
-                .tradeStatus(
-                        new CodeAndName(
-                                TradeStatus.of(article.getTradeStatusCode()).getCode(),
-                                TradeStatus.of(article.getTradeStatusCode()).getName()
-                        )
-                )
-                .productStatus(
-                        new CodeAndName(
-                                ProductStatus.of(article.getProductStatusCode()).getCode(),
-                                ProductStatus.of(article.getProductStatusCode()).getName()
-                        )
-                )
+                .category(Category.of(article.getCategoryCode()).getCodeAndName())
+                .tradeStatus(TradeStatus.of(article.getTradeStatusCode()).getCodeAndName())
+                .productStatus(ProductStatus.of(article.getProductStatusCode()).getCodeAndName())
                 .tradeArea(article.getTradeArea())
-                .tradeMethod(
-                        new CodeAndName(
-                                TradeMethod.of(article.getTradeMethodCode()).getCode(),
-                                TradeMethod.of(article.getTradeMethodCode()).getName()
-                        )
-                )
+                .tradeMethod(TradeMethod.of(article.getTradeMethodCode()).getCodeAndName())
                 .quantity(article.getQuantity())
                 .price(article.getPrice())
-                .mainImageUrl(article.getMainImageUrl())
+                .mainImageUrl(ImageVariant.DETAIL.urlOf(article.getMainImageUrl()))
                 .createdDate(article.getCreatedDate())
                 .modifiedDate(article.getModifiedDate())
                 .likeCount(article.getLikeCount())
-                .isLiked(isLiked)
                 .viewCount(article.getViewCount())
                 .build();
+    }
+
+    public ArticleDetailResponse toArticleDetailResponse(ArticleDetailResponse.ArticleDto detail, boolean isLiked, int viewCount) {
+        var articleDto = detail.toBuilder()
+                .isLiked(isLiked)
+                .viewCount(viewCount)
+                .build();
 
         return new ArticleDetailResponse(articleDto);
     }
@@ -0,0 +1,189 @@
+package com.prgrms.offer.domain.article.service;
+
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.domain.article.model.dto.ArticleDetailResponse.ArticleDto;
+import com.prgrms.offer.domain.article.model.dto.ArticleDetailResponse.AuthorDetail;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 상세 조회 응답 중 조회하는 회원과 무관한 부분(게시글, 작성자 정보)을 게시글 id 별로 캐싱
+ * 좋아요 여부와 아직 반영되지 않은 조회수는 요청마다 따로 더함
+ * 게시글이나 작성자 정보가 바뀌면 커밋 이후 evict 로 무효화해야 함
+ * (ArticleService 의 수정/삭제, 좋아요 전환, MemberService.editProfile, 후기 작성 시 offerLevel 변경)
+ * 조회수 반영은 무효화하지 않고 applyViewCounts 로 캐시된 조회수에 증가분을 더함
+ * 캐시 크기는 항목 수가 아니라 문자열 길이로 추정한 byte 수로 제한
+ */
+@Component
+public class ArticleDetailCache {
+
+    // 문자열 외의 필드와 객체 header, map entry 등을 대략 더한 값
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Map<Long, CachedArticleDetail> details = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+
+    // 무효화를 세는 값을 게시글 id 로 나눠 두어, 한 게시글의 무효화가 다른 게시글의 조회 결과를 버리게 하지 않음
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    // 조회 중에 무효화가 일어났다면 (수정 이전 값일 수 있으므로) 조회한 값을 캐시에 남기지 않기 위한 값
+    // evict 는 2 씩, 조회수 반영은 시작과 끝에 1 씩 더하므로 홀수인 동안은 조회수를 반영하는 중
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    // 작성자 정보 변경은 여러 게시글에 걸치고 드물어서 따로 셈
+    private final AtomicLong writerInvalidations = new AtomicLong();
+
+    private final long maxBytes;
+
+    public ArticleDetailCache(PropertyProvider propertyProvider) {
+        this.maxBytes = propertyProvider.getARTICLE_DETAIL_CACHE_MAX_BYTES();
+    }
+
+    public CachedArticleDetail get(Long articleId, Supplier<ArticleDto> loader) {
+        CachedArticleDetail cached = details.get(articleId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = invalidations.get(stripeOf(articleId));
+        long writerVersion = writerInvalidations.get();
+        ArticleDto detail = loader.get();
+        CachedArticleDetail loaded = new CachedArticleDetail(detail, weigh(detail));
+        put(articleId, loaded, version, writerVersion);
+
+        return loaded;
+    }
+
+    public void evict(Long articleId) {
+        invalidations.addAndGet(stripeOf(articleId), 2);
+        remove(articleId);
+    }
+
+    // 조회수 증가분을 DB 에 반영하고, 캐시된 상세 정보는 버리지 않고 조회수만 더함
+    // 반영하는 동안 조회한 값은 반영 전후 어느 쪽인지 알 수 없으므로 해당 게시글 (과 같은 stripe) 의 조회 결과만 캐시에 남기지 않음
+    public void applyViewCounts(Map<Long, Long> viewCountDeltas, Runnable update) {
+        Set<Integer> stripes = viewCountDeltas.keySet().stream().map(this::stripeOf).collect(Collectors.toSet());
+        stripes.forEach(stripe -> invalidations.incrementAndGet(stripe));
+        try {
+            update.run();
+            viewCountDeltas.forEach((articleId, delta) -> {
+                CachedArticleDetail cached = details.get(articleId);
+                if (cached != null) {
+                    cached.viewCount.addAndGet(delta);
+                }
+            });
+        } finally {
+            stripes.forEach(stripe -> invalidations.incrementAndGet(stripe));
+        }
+    }
+
+    // 작성자 정보가 바뀐 경우 (작성자 기준 index 는 두지 않고 전체를 확인함, 회원 정보 수정은 드묾)
+    public void evictByWriterId(Long writerId) {
+        writerInvalidations.incrementAndGet();
+        details.forEach((articleId, cached) -> {
+            if (writerId.equals(cached.detail.getAuthor().getId())) {
+                remove(articleId, cached);
+            }
+        });
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public int size() {
+        return details.size();
+    }
+
+    private void put(Long articleId, CachedArticleDetail cached, long version, long writerVersion) {
+        if (isInvalidatedSince(articleId, version, writerVersion) || cached.weight > maxBytes) {
+            return;
+        }
+
+        makeRoomFor(cached.weight);
+
+        CachedArticleDetail previous = details.put(articleId, cached);
+        weight.addAndGet(cached.weight - (previous == null ? 0 : previous.weight));
+
+        // 확인한 뒤 넣기 전에 무효화되었다면 방금 넣은 값을 다시 제거
+        if (isInvalidatedSince(articleId, version, writerVersion)) {
+            remove(articleId, cached);
+        }
+    }
+
+    // 조회를 시작할 때 이미 조회수를 반영하는 중이었어도 (홀수) 반영 전후를 알 수 없으므로 무효화된 것으로 봄
+    private boolean isInvalidatedSince(Long articleId, long version, long writerVersion) {
+        return version % 2 != 0
+                || invalidations.get(stripeOf(articleId)) != version
+                || writerInvalidations.get() != writerVersion;
+    }
+
+    private int stripeOf(Long articleId) {
+        return Long.hashCode(articleId) & (INVALIDATION_STRIPES - 1);
+    }
+
+    // 넘치면 임의의 항목부터 제거 (상세 조회는 한 번의 조회로 다시 적재 가능)
+    private void makeRoomFor(long entryWeight) {
+        Iterator<Map.Entry<Long, CachedArticleDetail>> iterator = details.entrySet().iterator();
+        while (weight.get() + entryWeight > maxBytes && iterator.hasNext()) {
+            Map.Entry<Long, CachedArticleDetail> entry = iterator.next();
+            remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void remove(Long articleId) {
+        CachedArticleDetail removed = details.remove(articleId);
+        if (removed != null) {
+            weight.addAndGet(-removed.weight);
+        }
+    }
+
+    private void remove(Long articleId, CachedArticleDetail cached) {
+        if (details.remove(articleId, cached)) {
+            weight.addAndGet(-cached.weight);
+        }
+    }
+
+    private long weigh(ArticleDto detail) {
+        AuthorDetail author = detail.getAuthor();
+        long chars = length(detail.getTitle()) + length(detail.getContent()) + length(detail.getTradeArea())
+                + length(detail.getMainImageUrl()) + length(author.getEmail()) + length(author.getNickname())
+                + length(author.getProfileImageUrl()) + length(author.getAddress());
+
+        return ENTRY_OVERHEAD_BYTES + chars * Character.BYTES;
+    }
+
+    private int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // 조회수는 조회한 시점의 값에서 이후 반영된 증가분을 더해 가므로 상세 정보와 따로 가지고 있음
+    public static class CachedArticleDetail {
+
+        private final ArticleDto detail;
+        private final long weight;
+        private final AtomicLong viewCount;
+
+        private CachedArticleDetail(ArticleDto detail, long weight) {
+            this.detail = detail;
+            this.weight = weight;
+            this.viewCount = new AtomicLong(detail.getViewCount());
+        }
+
+        public ArticleDto getDetail() {
+            return detail;
+        }
+
+        // DB 에 반영된 조회수 (아직 버퍼에 남은 증가분은 포함하지 않음)
+        public long getViewCount() {
+            return viewCount.get();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.prgrms.offer.domain.article.service;
 
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.page.Cursor;
+import com.prgrms.offer.common.page.TotalCountCache;
+import com.prgrms.offer.common.utils.LongSet;
+import com.prgrms.offer.common.utils.TransactionCallbacks;
+import com.prgrms.offer.common.utils.ImageVariant;
 import com.prgrms.offer.common.utils.S3ImageUploader;
 import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.error.exception.BusinessException;
@@ -10,25 +15,26 @@ import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.model.entity.ProductImage;
 import com.prgrms.offer.domain.article.model.value.Category;
 import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.article.repository.ArticleBrief;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
 import com.prgrms.offer.domain.article.repository.LikeArticleRepository;
+import com.prgrms.offer.domain.article.repository.ArticleSearchDocument;
 import com.prgrms.offer.domain.article.repository.ProductImageRepository;
 import com.prgrms.offer.domain.article.repository.TemporalArticle;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.service.AuthenticatedMembers;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
-import com.prgrms.offer.domain.message.repository.MessageRoomRepository;
-import com.prgrms.offer.domain.offer.model.entity.Offer;
-import com.prgrms.offer.domain.offer.repository.OfferRepository;
-import com.prgrms.offer.domain.review.repository.ReviewRepository;
+import com.prgrms.offer.domain.search.index.ArticleSearchEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,11 +48,12 @@ public class ArticleService {
     private final MemberRepository memberRepository;
     private final ProductImageRepository productImageRepository;
     private final LikeArticleRepository likeArticleRepository;
-    private final OfferRepository offerRepository;
-    private final ReviewRepository reviewRepository;
-    private final MessageRoomRepository messageRoomRepository;
     private final ArticleConverter converter;
     private final S3ImageUploader s3ImageUploader;
+    private final ArticleViewCountBuffer articleViewCountBuffer;
+    private final ArticleDetailCache articleDetailCache;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final TotalCountCache totalCountCache;
 
     private final PropertyProvider propertyProvider;
 
@@ -54,22 +61,15 @@ public class ArticleService {
         return converter.toCodeAndNameInfosResponse();
     }
 
-    public List<String> uploadImage(List<MultipartFile> images) throws IOException {
-        List<String> imageUrls = new ArrayList<>();
-
-        for (var image : images) {
-            String uploadedImageUrl = s3ImageUploader.upload(image, propertyProvider.getPRODUCT_IMG_DIR());
-            imageUrls.add(uploadedImageUrl);
-        }
-
-        return imageUrls;
+    public List<String> uploadImage(List<MultipartFile> images) {
+        return s3ImageUploader.uploadAll(images, propertyProvider.getPRODUCT_IMG_DIR(), ImageVariant.LIST, ImageVariant.DETAIL);
     }
 
     @Transactional
     public ArticleCreateOrUpdateResponse createOrUpdate(ArticleCreateOrUpdateRequest request, JwtAuthentication authentication) {
         String loginId = authentication.loginId;
 
-        Member writer = memberRepository.findByPrincipal(loginId)
+        Member writer = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         Article articleEntity = null;
@@ -98,11 +98,18 @@ public class ArticleService {
                             null : request.getImageUrls().get(0)
             );
 
-            productImageRepository.deleteAllByArticle(articleEntity);
+            productImageRepository.deleteAllByArticleInBulk(articleEntity);
+
+            Long articleId = articleEntity.getId();
+            TransactionCallbacks.afterCommit(() -> articleDetailCache.evict(articleId));
         }
 
         saveImagseUrls(articleEntity, request.getImageUrls());
 
+        TransactionCallbacks.afterCommit(totalCountCache::clear);
+
+        articleSearchEngine.index(ArticleSearchDocument.from(articleEntity));
+
         return converter.toArticleCreateOrUpdateResponse(articleEntity);
     }
 
@@ -114,6 +121,12 @@ public class ArticleService {
         validateWriterOrElseThrow(article, loginId);
 
         article.updateTradeStatusCode(TradeStatus.of(code).getCode());
+        TransactionCallbacks.afterCommit(() -> {
+            articleDetailCache.evict(articleId);
+            totalCountCache.clear();
+        });
+
+        articleSearchEngine.updateTradeStatus(articleId, article.getTradeStatusCode());
     }
 
     @Transactional(readOnly = true)
@@ -144,29 +157,40 @@ public class ArticleService {
 
         validateWriterOrElseThrow(article, loginId);
 
-        doOnDeleteSetNull(article);
+        articleRepository.deleteWithDetachingReferences(article);
 
-        articleRepository.delete(article);
+        // 캐시와 검색 색인은 삭제가 커밋된 뒤에만 반영 (ArticleSearchEngine 도 커밋 이후에 색인에서 제거)
+        TransactionCallbacks.afterCommit(() -> {
+            articleDetailCache.evict(articleId);
+            totalCountCache.clear();
+        });
+        articleSearchEngine.remove(articleId);
     }
 
-    @Transactional
+    // 캐시된 상세 정보에 좋아요 여부와 아직 반영되지 않은 조회수만 더함
+    // (캐시에 있고 로그인하지 않은 요청이면 DB 를 조회하지 않도록 트랜잭션을 열지 않음)
     public ArticleDetailResponse findById(Long articleId, Optional<JwtAuthentication> authenticationOptional) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND));
+        ArticleDetailCache.CachedArticleDetail cached = articleDetailCache.get(articleId, () -> converter.toArticleDetail(
+                articleRepository.findWithWriterById(articleId)
+                        .orElseThrow(() -> new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND))
+        ));
 
         boolean isLiked = false;
         if (authenticationOptional.isPresent()) {
-            Member currentMember = memberRepository.findByPrincipal(authenticationOptional.get().loginId)
+            Member currentMember = AuthenticatedMembers.find(memberRepository, authenticationOptional.get())
                     .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-            isLiked = likeArticleRepository.existsByMemberAndArticle(currentMember, article);
+            isLiked = likeArticleRepository.existsByMemberAndArticleId(currentMember, articleId);
         }
 
-        article.addViewCount();
+        // 조회수는 버퍼에 누적해 두고 주기적으로 일괄 반영
+        articleViewCountBuffer.increase(articleId);
+        long viewCount = cached.getViewCount() + articleViewCountBuffer.getPendingViewCount(articleId);
 
-        return converter.toArticleDetailResponse(article, isLiked);
+        return converter.toArticleDetailResponse(cached.getDetail(), isLiked, (int) viewCount);
     }
 
+    // 카테고리, 작성자, 거래상태의 모든 조합을 하나의 동적 쿼리로 조회 (목록용 컬럼만 조회)
     @Transactional(readOnly = true)
     public Page<ArticleBriefViewResponse> findAllByPages(
             Pageable pageable,
@@ -175,78 +199,99 @@ public class ArticleService {
             Optional<Integer> tradeStatusCodeOptional,
             Optional<JwtAuthentication> authenticationOptional
     ) {
+        Integer categoryCode = categoryCodeOptional.map(code -> Category.of(code).getCode()).orElse(null);
+        Long writerId = memberIdOptional.orElse(null);
+        Integer tradeStatusCode = tradeStatusCodeOptional.map(code -> TradeStatus.of(code).getCode()).orElse(null);
 
-        Page<Article> postPage;
-        if (categoryCodeOptional.isEmpty() && memberIdOptional.isEmpty() && tradeStatusCodeOptional.isEmpty()) {
-            postPage = articleRepository.findAll(pageable);
-        }
-        else if (categoryCodeOptional.isPresent() && memberIdOptional.isEmpty() && tradeStatusCodeOptional.isEmpty()) {
-            postPage = articleRepository.findAllByCategoryCode(pageable, Category.of(categoryCodeOptional.get()).getCode());
-        }
-        else if (categoryCodeOptional.isEmpty() && memberIdOptional.isPresent() && tradeStatusCodeOptional.isPresent()) {
-            if (TradeStatus.of(tradeStatusCodeOptional.get()).getCode() == TradeStatus.COMPLETED.getCode()) { // 판매 완료만 가져오기
-                postPage = articleRepository.findAllByWriterIdAndTradeStatusCode(
-                        pageable,
-                        memberIdOptional.get(),
-                        TradeStatus.of(tradeStatusCodeOptional.get()).getCode()
-                );
-            } else {  // 예약중 또는 판매중만 가져오기
-                postPage = articleRepository.findAllByWriterIdAndTradeInProgress(pageable, memberIdOptional.get());
-            }
-        }
-        else if (categoryCodeOptional.isEmpty() && memberIdOptional.isEmpty() && tradeStatusCodeOptional.isPresent()) {
-            if (TradeStatus.of(tradeStatusCodeOptional.get()).getCode() == TradeStatus.COMPLETED.getCode()) { // 판매 완료만 가져오기
-                postPage = articleRepository.findAllByTradeStatusCode(pageable, TradeStatus.of(tradeStatusCodeOptional.get()).getCode());
-            } else {  // 예약중 또는 판매중만 가져오기
-                postPage = articleRepository.findAllByTradeInProgress(pageable);
-            }
-        }
-        else if (categoryCodeOptional.isEmpty() && memberIdOptional.isPresent() && tradeStatusCodeOptional.isEmpty()) {
-            postPage = articleRepository.findAllByWriterId(pageable, memberIdOptional.get());
-        }
-        else {
-            throw new BusinessException(ResponseMessage.NOT_SUPPORTING_PARAM_COMBINATION);
+        List<ArticleBrief> articleBriefs = articleRepository.findAllBriefs(categoryCode, writerId, tradeStatusCode, pageable);
+
+        Page<ArticleBrief> articleBriefPage = totalCountCache.toPage(
+                articleBriefs,
+                pageable,
+                toTotalCountCacheKey(categoryCode, writerId, tradeStatusCode),
+                () -> articleRepository.countAllBriefs(categoryCode, writerId, tradeStatusCode)
+        );
+
+        if (!authenticationOptional.isPresent()) {
+            return articleBriefPage.map(a -> converter.toArticleBriefViewResponse(a, false));
         }
 
+        Member currentMember = AuthenticatedMembers.find(memberRepository, authenticationOptional.get())
+                .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
+
+        return makeBriefViewResponsePageWithLikeInfo(articleBriefPage, currentMember);
+    }
+
+    // 무한 스크롤용 cursor 모드 (count 쿼리 없이 createdDate, id 기준으로 seek)
+    @Transactional(readOnly = true)
+    public Slice<ArticleBriefViewResponse> findAllByCursor(
+            Optional<Cursor> cursorOptional,
+            int size,
+            Optional<Integer> categoryCodeOptional,
+            Optional<Long> memberIdOptional,
+            Optional<Integer> tradeStatusCodeOptional,
+            Optional<JwtAuthentication> authenticationOptional
+    ) {
+        Slice<ArticleBrief> articleBriefSlice = articleRepository.findAllBriefsByCursor(
+                cursorOptional.orElse(null),
+                size,
+                categoryCodeOptional.map(code -> Category.of(code).getCode()).orElse(null),
+                memberIdOptional.orElse(null),
+                tradeStatusCodeOptional.map(code -> TradeStatus.of(code).getCode()).orElse(null)
+        );
+
         if (!authenticationOptional.isPresent()) {
-            return postPage.map(p -> converter.toArticleBriefViewResponse(p, false));
+            return articleBriefSlice.map(a -> converter.toArticleBriefViewResponse(a, false));
         }
 
-        Member currentMember = memberRepository.findByPrincipal(authenticationOptional.get().loginId)
+        Member currentMember = AuthenticatedMembers.find(memberRepository, authenticationOptional.get())
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        return postPage.map(p -> makeBriefViewResponseWithLikeInfo(p, currentMember));
+        return makeBriefViewResponseSliceWithLikeInfo(articleBriefSlice, currentMember);
+    }
+
+    // 거래상태는 판매완료 / 그 외(판매중, 예약중) 두 그룹으로만 구분되므로 key 도 그룹 단위로 생성
+    private String toTotalCountCacheKey(Integer categoryCode, Long writerId, Integer tradeStatusCode) {
+        String tradeStatusGroup = tradeStatusCode == null ? null
+                : tradeStatusCode == TradeStatus.COMPLETED.getCode() ? "completed" : "inProgress";
+
+        return "articles:category=" + categoryCode + ":writer=" + writerId + ":tradeStatus=" + tradeStatusGroup;
     }
 
     @Transactional(readOnly = true)
     public Page<ArticleBriefViewResponse> findAllBoughtProducts(Pageable pageable, JwtAuthentication authentication) {
-        Member member = memberRepository.findByPrincipal(authentication.loginId)
+        Member member = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        Page<Offer> offerPage = offerRepository.findAllByOffererAndIsSelected(pageable, member, true);
+        Page<ArticleBrief> articleBriefPage = articleRepository.findAllBoughtByOfferer(member, pageable);
 
-        return offerPage.map(o -> extractArticleBriefViewResponseFromOfferEntityWithLikeInfo(o, member));
+        return makeBriefViewResponsePageWithLikeInfo(articleBriefPage, member);
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
-    ArticleBriefViewResponse extractArticleBriefViewResponseFromOfferEntityWithLikeInfo(Offer offer, Member member) {
-        Article article = offer.getArticle();
-
-        boolean isLiked = likeArticleRepository.existsByMemberAndArticle(member, article);
+    Page<ArticleBriefViewResponse> makeBriefViewResponsePageWithLikeInfo(Page<ArticleBrief> articleBriefPage, Member currentMember) {
+        LongSet likedArticleIds = findLikedArticleIds(articleBriefPage, currentMember);
 
-        return converter.toArticleBriefViewResponse(article, isLiked);
+        return articleBriefPage.map(a -> converter.toArticleBriefViewResponse(a, likedArticleIds.contains(a.getId())));
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
-    ArticleBriefViewResponse makeBriefViewResponseWithLikeInfo(Article article, Member currentMember) {
-        boolean isLiked = likeArticleRepository.existsByMemberAndArticle(currentMember, article);
+    Slice<ArticleBriefViewResponse> makeBriefViewResponseSliceWithLikeInfo(Slice<ArticleBrief> articleBriefSlice, Member currentMember) {
+        LongSet likedArticleIds = findLikedArticleIds(articleBriefSlice, currentMember);
+
+        return articleBriefSlice.map(a -> converter.toArticleBriefViewResponse(a, likedArticleIds.contains(a.getId())));
+    }
 
-        return converter.toArticleBriefViewResponse(article, isLiked);
+    private LongSet findLikedArticleIds(Slice<ArticleBrief> articleBriefSlice, Member currentMember) {
+        return likeArticleRepository.findLikedArticleIds(
+                currentMember,
+                articleBriefSlice.getContent().stream().map(ArticleBrief::getId).collect(Collectors.toList())
+        );
     }
 
     @Transactional(readOnly = true)
     public Page<ArticleBriefViewResponse> findAllByMyOffers(Pageable pageable, int tradeStatusCode, JwtAuthentication authentication) {
-        Member offerer = memberRepository.findByPrincipal(authentication.loginId)
+        Member offerer = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         Page<TemporalArticle> articlePage;
@@ -256,14 +301,18 @@ public class ArticleService {
             articlePage = articleRepository.findAllByOffererAndTradeInProgress(offerer, pageable);
         }
 
-        return articlePage.map(ta -> makeBriefViewResponseWithLikeInfoFromTemporalArticle(ta, offerer));
+        return makeBriefViewResponsePageWithLikeInfoFromTemporalArticle(articlePage, offerer);
     }
 
     @Transactional(propagation = Propagation.MANDATORY)
-    ArticleBriefViewResponse makeBriefViewResponseWithLikeInfoFromTemporalArticle(TemporalArticle temporalArticle, Member currentMember) {
-        boolean isLiked = likeArticleRepository.existsByMemberAndArticleId(currentMember, temporalArticle.getId());
-
-        return converter.toArticleBriefViewResponse(temporalArticle, isLiked);
+    Page<ArticleBriefViewResponse> makeBriefViewResponsePageWithLikeInfoFromTemporalArticle(
+            Page<TemporalArticle> temporalArticlePage, Member currentMember) {
+        LongSet likedArticleIds = likeArticleRepository.findLikedArticleIds(
+                currentMember,
+                temporalArticlePage.getContent().stream().map(TemporalArticle::getId).collect(Collectors.toList())
+        );
+
+        return temporalArticlePage.map(ta -> converter.toArticleBriefViewResponse(ta, likedArticleIds.contains(ta.getId())));
     }
 
     private void validateWriterOrElseThrow(Article article, String principal) {
@@ -274,38 +323,32 @@ public class ArticleService {
 
     @Transactional(propagation = Propagation.MANDATORY)
     void saveImagseUrls(Article article, List<String> imageUrls) {
+        List<String> productImageUrls = new ArrayList<>(imageUrls.size());
         for (var imageUrl : imageUrls) {
-            if (imageUrl.equals(propertyProvider.getNO_IMG()) || imageUrl == null || imageUrl.isEmpty()) {
+            if (imageUrl == null || imageUrl.isEmpty() || imageUrl.equals(propertyProvider.getNO_IMG())) {
                 continue;
             }
 
-            var productImage = new ProductImage(imageUrl, article);
-            productImageRepository.save(productImage);
+            productImageUrls.add(imageUrl);
         }
+
+        productImageRepository.saveAllInBulk(article.getId(), productImageUrls);
     }
 
     public Page<ArticleBriefViewResponse> getLikeArticlesWithTradeStatusCode(
             Pageable pageable, JwtAuthentication authentication, Integer tradeStatusCode) {
-        Member member = memberRepository.findByPrincipal(authentication.loginId)
+        Member member = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
+        // 좋아요한 게시글만 조회하므로 좋아요 여부를 다시 조회하지 않음
         if (tradeStatusCode == TradeStatus.COMPLETED.getCode()) {
             return articleRepository
                     .findLikedCompletedArticleByMember(member.getId(), pageable)
-                    .map(p -> makeBriefViewResponseWithLikeInfo(p, member));
+                    .map(p -> converter.toArticleBriefViewResponse(p, true));
         } else {
             return articleRepository
                     .findLikedSellingArticleByMember(member.getId(), pageable)
-                    .map(p -> makeBriefViewResponseWithLikeInfo(p, member));
+                    .map(p -> converter.toArticleBriefViewResponse(p, true));
         }
     }
-
-    @Transactional(propagation = Propagation.MANDATORY)
-    void doOnDeleteSetNull(Article article) {
-        productImageRepository.doOnDeleteSetNullFromArticle(article);
-        likeArticleRepository.doOnDeleteSetNullFromArticle(article);
-        offerRepository.doOnDeleteSetNullFromArticle(article);
-        reviewRepository.doOnDeleteSetNullFromArticle(article);
-        messageRoomRepository.doOnDeleteSetNullFromArticle(article);
-    }
 }
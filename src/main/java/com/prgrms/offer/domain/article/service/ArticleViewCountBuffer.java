@@ -0,0 +1,71 @@
+package com.prgrms.offer.domain.article.service;
+
+import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 증가분을 메모리에 모아 두었다가 주기적으로(그리고 종료 시) 한 번의 batch update로 반영
+ * 상세 조회마다 article row에 UPDATE를 날려 row lock 경합이 생기는 것을 막기 위함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleViewCountBuffer {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleDetailCache articleDetailCache;
+
+    private final Map<Long, Long> pendingViewCounts = new ConcurrentHashMap<>();
+
+    public void increase(Long articleId) {
+        pendingViewCounts.merge(articleId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingViewCount(Long articleId) {
+        return pendingViewCounts.getOrDefault(articleId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${article.view_count_flush_interval_ms}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    synchronized void flush() {
+        Map<Long, Long> viewCountDeltas = new HashMap<>();
+
+        // merge 와 remove 는 같은 key 에 대해 원자적이므로, 꺼낸 뒤 들어온 증가분은 새 entry 로 쌓여 다음 flush 에 반영됨
+        // 꺼낸 entry 는 map 에서 제거되므로 한 번 조회된 게시글이 map 에 계속 남지 않음
+        for (Long articleId : pendingViewCounts.keySet()) {
+            Long delta = pendingViewCounts.remove(articleId);
+            if (delta != null) {
+                viewCountDeltas.put(articleId, delta);
+            }
+        }
+
+        if (viewCountDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 캐시된 상세 정보는 버리지 않고 조회수에 증가분만 더함
+            articleDetailCache.applyViewCounts(viewCountDeltas, () -> articleRepository.addViewCounts(viewCountDeltas));
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증가분은 버리지 않고 다음 flush에서 다시 시도
+            viewCountDeltas.forEach((articleId, delta) -> pendingViewCounts.merge(articleId, delta, Long::sum));
+            log.warn("failed to flush {} article view counts", viewCountDeltas.size(), e);
+        }
+    }
+}
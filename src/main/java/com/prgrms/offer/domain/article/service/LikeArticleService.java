@@ -1,16 +1,18 @@
 package com.prgrms.offer.domain.article.service;
 
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.utils.TransactionCallbacks;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.dto.LikeArticleStatusResponse;
-import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.model.entity.LikeArticle;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
 import com.prgrms.offer.domain.article.repository.LikeArticleRepository;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.service.AuthenticatedMembers;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,27 +25,33 @@ public class LikeArticleService {
     private final LikeArticleConverter converter;
     private final MemberRepository memberRepository;
     private final ArticleRepository articleRepository;
+    private final ArticleDetailCache articleDetailCache;
 
+    // Article 엔티티를 로딩하지 않고 (member_id, article_id) unique 제약과 like_count 상대값 UPDATE로 좋아요 상태를 전환
     @Transactional
     public LikeArticleStatusResponse switchLikeStatus(Long articleId, JwtAuthentication authentication){
-        Member member = memberRepository.findByPrincipal(authentication.loginId)
+        Member member = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND));
-
-        if(likeArticleRepository.existsByMemberAndArticle(member, article)){
-            likeArticleRepository.deleteByMemberIdAndArticleId(member.getId(), articleId);
-
-            article.subtractLikeCount();
+        if(likeArticleRepository.deleteByMemberAndArticleIdInBulk(member, articleId) > 0){
+            articleRepository.decreaseLikeCount(articleId);
+            TransactionCallbacks.afterCommit(() -> articleDetailCache.evict(articleId));
 
             return converter.toLikeArticleStatusResponse(false);
         }
 
-        LikeArticle likeArticle = new LikeArticle(member, article);
-        likeArticleRepository.save(likeArticle);
+        // like_article insert 시 FK 검사로 잡히는 공유 락과의 교착을 피하기 위해 article row를 먼저 갱신
+        if(articleRepository.increaseLikeCount(articleId) == 0){
+            throw new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND);
+        }
 
-        article.addLikeCount();
+        try {
+            likeArticleRepository.saveAndFlush(new LikeArticle(member, articleRepository.getById(articleId)));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청으로 이미 좋아요가 추가된 경우 (증가시킨 like_count는 롤백됨)
+            throw new BusinessException(ResponseMessage.ALREADY_SWITCHED_LIKE_STATUS);
+        }
+        TransactionCallbacks.afterCommit(() -> articleDetailCache.evict(articleId));
 
         return converter.toLikeArticleStatusResponse(true);
     }
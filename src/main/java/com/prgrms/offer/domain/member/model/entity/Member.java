@@ -10,6 +10,10 @@ import java.util.Objects;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "member_idx_principal", columnList = "principal"),
+        @Index(name = "member_idx_provider_id_provider", columnList = "providerId, provider")
+})
 public class Member {
 
     @Id
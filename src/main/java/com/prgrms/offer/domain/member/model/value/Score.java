@@ -1,13 +1,10 @@
 package com.prgrms.offer.domain.member.model.value;
 
 import com.prgrms.offer.common.message.ResponseMessage;
-import com.prgrms.offer.core.error.exception.BusinessException;
-import com.prgrms.offer.domain.article.model.value.Category;
+import com.prgrms.offer.common.utils.CodeTable;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
-
 @Getter
 @RequiredArgsConstructor
 public enum Score {
@@ -17,12 +14,11 @@ public enum Score {
     BAD(-1),
     ;
 
+    private static final CodeTable<Score> VALUES = CodeTable.of(values(), Score::getValue, ResponseMessage.SCORE_NOT_FOUND);
+
     private final int value;
 
     public static Score of(int value) {
-        return Arrays.stream(Score.values())
-                .filter(v -> v.value == value)
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ResponseMessage.SCORE_NOT_FOUND));
+        return VALUES.of(value);
     }
 }
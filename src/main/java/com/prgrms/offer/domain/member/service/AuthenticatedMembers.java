@@ -0,0 +1,25 @@
+package com.prgrms.offer.domain.member.service;
+
+import com.prgrms.offer.core.jwt.JwtAuthentication;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import java.util.Optional;
+
+/**
+ * 인증된 사용자를 회원 엔티티로 가져오기 위한 헬퍼
+ * 인증 단계(JwtAuthenticationFilter)에서 회원 id 가 확인된 경우 principal 대신 PK 로 조회하고,
+ * 회원이 없으면 (탈퇴 등) 빈 값을 반환하므로 호출하는 쪽의 MEMBER_NOT_FOUND 처리가 그대로 동작함
+ */
+public final class AuthenticatedMembers {
+
+    private AuthenticatedMembers() {
+    }
+
+    public static Optional<Member> find(MemberRepository memberRepository, JwtAuthentication authentication) {
+        if (authentication.memberId != null) {
+            return memberRepository.findById(authentication.memberId);
+        }
+
+        return memberRepository.findByPrincipal(authentication.loginId);
+    }
+}
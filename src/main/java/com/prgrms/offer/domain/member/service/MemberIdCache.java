@@ -0,0 +1,50 @@
+package com.prgrms.offer.domain.member.service;
+
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 필터에서 토큰의 principal 을 회원 id 로 바꿀 때 사용하는 요청 간 캐시
+ * 매 요청마다 findByPrincipal 을 실행하지 않도록 함
+ * principal 과 id 는 바뀌지 않으므로 회원 정보가 수정되어도 무효화할 필요가 없음
+ */
+@Component
+public class MemberIdCache {
+
+    private final Map<String, Long> memberIds = new ConcurrentHashMap<>();
+
+    private final MemberRepository memberRepository;
+    private final int maxSize;
+
+    public MemberIdCache(MemberRepository memberRepository, PropertyProvider propertyProvider) {
+        this.memberRepository = memberRepository;
+        this.maxSize = propertyProvider.getMEMBER_CACHE_MAX_SIZE();
+    }
+
+    public Optional<Long> findIdByPrincipal(String principal) {
+        Long cached = memberIds.get(principal);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Long> memberId = memberRepository.findByPrincipal(principal)
+                .map(Member::getId);
+        memberId.ifPresent(id -> put(principal, id));
+
+        return memberId;
+    }
+
+    private void put(String principal, Long memberId) {
+        // 크기를 넘으면 전부 비우고 다시 채움 (회원 id 는 조회 한 번으로 다시 적재 가능)
+        if (memberIds.size() >= maxSize) {
+            memberIds.clear();
+        }
+
+        memberIds.put(principal, memberId);
+    }
+}
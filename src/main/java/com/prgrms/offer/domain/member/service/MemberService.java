@@ -2,12 +2,14 @@ package com.prgrms.offer.domain.member.service;
 
 import com.prgrms.offer.common.message.ResponseMessage;
 import com.prgrms.offer.common.utils.S3ImageUploader;
+import com.prgrms.offer.common.utils.TransactionCallbacks;
 import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.core.jwt.JwtAuthenticationToken;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
 import com.prgrms.offer.domain.article.repository.LikeArticleRepository;
+import com.prgrms.offer.domain.article.service.ArticleDetailCache;
 import com.prgrms.offer.domain.member.model.dto.*;
 import com.prgrms.offer.domain.member.model.entity.Member;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
@@ -42,6 +44,7 @@ public class MemberService {
     private final ReviewRepository reviewRepository;
     private final OfferRepository offerRepository;
     private final LikeArticleRepository likeArticleRepository;
+    private final ArticleDetailCache articleDetailCache;
 
     private final PropertyProvider propertyProvider;
 
@@ -129,7 +132,7 @@ public class MemberService {
     }
 
     public MemberResponse editProfile(JwtAuthentication authentication, ProfileEdit request) {
-        Member findMember = memberRepository.findByPrincipal(authentication.loginId).orElseThrow(() -> {
+        Member findMember = AuthenticatedMembers.find(memberRepository, authentication).orElseThrow(() -> {
             throw new BusinessException(ResponseMessage.MEMBER_NOT_FOUND);
         });
 
@@ -137,12 +140,16 @@ public class MemberService {
         findMember.changeAddress(request.getAddress());
         findMember.changeProfileImageUrl(request.getProfileImageUrl());
 
+        // 작성자 정보가 담긴 게시글 상세를 커밋 이후 무효화
+        Long memberId = findMember.getId();
+        TransactionCallbacks.afterCommit(() -> articleDetailCache.evictByWriterId(memberId));
+
         return memberConverter.toMemberResponse(findMember, authentication.token);
     }
 
     @Transactional(readOnly = true)
     public MemberResponse getProfile(JwtAuthentication authentication) {
-        Member findMember = memberRepository.findByPrincipal(authentication.loginId).orElseThrow(() -> {
+        Member findMember = AuthenticatedMembers.find(memberRepository, authentication).orElseThrow(() -> {
             throw new BusinessException(ResponseMessage.MEMBER_NOT_FOUND);
         });
         return memberConverter.toMemberResponse(findMember, authentication.token);
@@ -160,7 +167,7 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public MyProfile getMyProfile(JwtAuthentication authentication) {
-        Member member = memberRepository.findByPrincipal(authentication.loginId).orElseThrow(() -> {
+        Member member = AuthenticatedMembers.find(memberRepository, authentication).orElseThrow(() -> {
             throw new BusinessException(ResponseMessage.MEMBER_NOT_FOUND);
         });
 
@@ -4,6 +4,7 @@ import com.prgrms.offer.common.ApiResponse;
 import com.prgrms.offer.common.message.ResponseMessage;
 import com.prgrms.offer.common.page.PageDto;
 import com.prgrms.offer.common.page.PageInfo;
+import com.prgrms.offer.common.page.TotalCountMode;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.member.service.MemberService;
@@ -47,7 +48,7 @@ public class MessageController {
 
         validateJwtAuthentication(authentication);
 
-        messageService.sendMessageToOffererOnclickMessageButton(memberId, authentication.loginId,
+        messageService.sendMessageToOffererOnclickMessageButton(memberId, authentication,
             articleId,
             offerId,
             messageRequest.getContent());
@@ -63,7 +64,7 @@ public class MessageController {
         validateJwtAuthentication(authentication);
 
         Page<MessageRoomResponse> messageRoomResponsePage = messageService.getMessageBox(
-            authentication.loginId, pageable);
+            authentication, pageable);
 
         PageInfo pageInfo = getPageInfo(messageRoomResponsePage);
 
@@ -83,7 +84,7 @@ public class MessageController {
         validateJwtAuthentication(authentication);
 
         OutgoingMessageResponse messageResponse = messageService.sendMessage(messageRoomId,
-            messageRequest, authentication.loginId
+            messageRequest, authentication
         );
 
         return ResponseEntity.ok(ApiResponse.of(ResponseMessage.SUCCESS, messageResponse));
@@ -99,7 +100,7 @@ public class MessageController {
         validateJwtAuthentication(authentication);
 
         Page<MessageContentResponse> messageContentResponsePage =
-            messageService.getMessageRoomContents(messageRoomId, authentication.loginId, pageable);
+            messageService.getMessageRoomContents(messageRoomId, authentication, pageable);
 
         PageInfo pageInfo = getPageInfo(messageContentResponsePage);
 
@@ -121,7 +122,7 @@ public class MessageController {
         validateJwtAuthentication(authentication);
 
         MessageRoomInfoResponse messageRoomInfoResponse
-            = messageService.getMessageRoomInfo(messageRoomId, authentication.loginId);
+            = messageService.getMessageRoomInfo(messageRoomId, authentication);
 
         return ResponseEntity.ok(ApiResponse.of(ResponseMessage.SUCCESS, messageRoomInfoResponse));
     }
@@ -139,7 +140,8 @@ public class MessageController {
             pageResponses.getPageable().getPageSize(),
             pageResponses.getTotalElements(),
             pageResponses.isLast(),
-            pageResponses.isFirst()
+            pageResponses.isFirst(),
+            TotalCountMode.of(pageResponses)
         );
     }
 
@@ -40,6 +40,10 @@ public class MessageRoomResponse {
         public static UserInfo createUserInfo(Member member){
             return new UserInfo(member.getNickname(), member.getProfileImageUrl(), member.getAddress());
         }
+
+        public static UserInfo createUserInfo(String nickName, String profileImageUrl, String address) {
+            return new UserInfo(nickName, profileImageUrl, address);
+        }
     }
 
     @Getter
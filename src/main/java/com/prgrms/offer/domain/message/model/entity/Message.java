@@ -8,8 +8,10 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +23,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "message_idx_message_room_id_message_id", columnList = "message_room_id, messageId")
+})
 public class Message {
 
     @Id
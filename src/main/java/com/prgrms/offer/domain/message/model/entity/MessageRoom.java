@@ -5,14 +5,17 @@ import com.prgrms.offer.domain.member.model.entity.Member;
 import com.prgrms.offer.domain.offer.model.entity.Offer;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -22,8 +25,13 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Getter
 @Entity
+@Table(indexes = {
+    @Index(name = "message_room_idx_member_id_last_message_at", columnList = "member_id, lastMessageAt")
+})
 public class MessageRoom {
 
+    private static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long messageRoomId;
@@ -46,6 +54,13 @@ public class MessageRoom {
 
     private LocalDateTime createdDate;
 
+    private Long lastMessageId;
+
+    private LocalDateTime lastMessageAt;
+
+    @Column(length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
     public MessageRoom(Member member, Member messagePartner, Article article, Offer offer) {
         this.member = member;
         this.messagePartner = messagePartner;
@@ -54,4 +69,10 @@ public class MessageRoom {
         this.offer = offer;
     }
 
+    // 쪽지함 미리보기로 대화방에 기록할 만큼만 자름
+    public static String toLastMessagePreview(String content) {
+        return content != null && content.length() > LAST_MESSAGE_PREVIEW_LENGTH
+            ? content.substring(0, LAST_MESSAGE_PREVIEW_LENGTH) : content;
+    }
+
 }
@@ -10,8 +10,6 @@ public interface MessageRepository extends Repository<Message, Long> {
 
     Message save(Message message);
 
-    Message findTop1ByMessageRoomOrderByCreatedDateDesc(MessageRoom messageRoom);
-
     Page<Message> findByMessageRoomOrderByMessageIdAsc(MessageRoom messageRoom, Pageable pageable);
 
     Long countAllByMessageRoom(MessageRoom messageRoom);
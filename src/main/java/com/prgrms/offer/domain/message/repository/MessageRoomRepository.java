@@ -2,10 +2,12 @@ package com.prgrms.offer.domain.message.repository;
 
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.message.model.entity.Message;
 import com.prgrms.offer.domain.message.model.entity.MessageRoom;
 import com.prgrms.offer.domain.offer.model.entity.Offer;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,10 +15,37 @@ import org.springframework.data.repository.Repository;
 
 public interface MessageRoomRepository extends Repository<MessageRoom, Long> {
 
-    List<MessageRoom> findByMemberId(Long userId, Pageable pageable);
+    // 대화방에 기록된 마지막 쪽지 정보로 조회하여 (member_id, last_message_at) 인덱스 범위 스캔만 수행
+    @Query(value = "SELECT new com.prgrms.offer.domain.message.repository.MessageRoomWithLastMessage("
+        + "mr.messageRoomId, p.nickname, p.profileImageUrl, p.address, a.mainImageUrl, "
+        + "mr.lastMessagePreview, mr.lastMessageAt) "
+        + "FROM MessageRoom mr "
+        + "LEFT JOIN mr.messagePartner p "
+        + "LEFT JOIN mr.article a "
+        + "WHERE mr.member.id = :memberId "
+        + "AND mr.lastMessageId IS NOT NULL "
+        + "ORDER BY mr.lastMessageAt DESC",
+        // 쪽지가 없는 대화방은 목록에 나오지 않으므로 개수에서도 같은 조건으로 제외
+        // (기존 대화방의 마지막 쪽지 정보는 sql/message_room_last_message_backfill.sql 로 채움)
+        countQuery = "SELECT COUNT(mr) FROM MessageRoom mr WHERE mr.member.id = :memberId "
+            + "AND mr.lastMessageId IS NOT NULL")
+    Page<MessageRoomWithLastMessage> findMessageBoxByMemberId(Long memberId, Pageable pageable);
 
     MessageRoom save(MessageRoom messageRoom);
 
+    // 동시에 쪽지를 보내도 더 오래된 쪽지로 덮어쓰지 않도록 마지막 쪽지 id 가 작을 때만 조건부로 갱신
+    @Modifying
+    @Query("UPDATE MessageRoom mr SET mr.lastMessageId = :messageId, mr.lastMessageAt = :createdDate, "
+        + "mr.lastMessagePreview = :preview "
+        + "WHERE mr.messageRoomId = :messageRoomId "
+        + "AND (mr.lastMessageId IS NULL OR mr.lastMessageId < :messageId)")
+    int updateLastMessage(Long messageRoomId, Long messageId, LocalDateTime createdDate, String preview);
+
+    default int updateLastMessage(Message message) {
+        return updateLastMessage(message.getMessageRoom().getMessageRoomId(), message.getMessageId(),
+            message.getCreatedDate(), MessageRoom.toLastMessagePreview(message.getContent()));
+    }
+
     Optional<MessageRoom> findByMemberAndMessagePartnerAndArticle(Member me, Member partner,
         Article artcile);
 
@@ -26,7 +55,4 @@ public interface MessageRoomRepository extends Repository<MessageRoom, Long> {
 
     Long countMessageRoomByMember(Member me);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE MessageRoom mr SET mr.article = NULL WHERE mr.article = :article")
-    void doOnDeleteSetNullFromArticle(Article article);
 }
@@ -0,0 +1,24 @@
+package com.prgrms.offer.domain.message.repository;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class MessageRoomWithLastMessage {
+
+    private Long messageRoomId;
+
+    private String partnerNickname;
+
+    private String partnerProfileImageUrl;
+
+    private String partnerAddress;
+
+    private String productImageUrl;
+
+    private String lastMessageContent;
+
+    private LocalDateTime lastMessageCreatedDate;
+}
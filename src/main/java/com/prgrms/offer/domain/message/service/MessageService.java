@@ -3,9 +3,11 @@ package com.prgrms.offer.domain.message.service;
 import com.prgrms.offer.common.message.ResponseMessage;
 import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.service.AuthenticatedMembers;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
 import com.prgrms.offer.domain.message.model.dto.MessageContentResponse;
 import com.prgrms.offer.domain.message.model.dto.MessageRequest;
@@ -16,10 +18,9 @@ import com.prgrms.offer.domain.message.model.entity.Message;
 import com.prgrms.offer.domain.message.model.entity.MessageRoom;
 import com.prgrms.offer.domain.message.repository.MessageRepository;
 import com.prgrms.offer.domain.message.repository.MessageRoomRepository;
+import com.prgrms.offer.domain.message.repository.MessageRoomWithLastMessage;
 import com.prgrms.offer.domain.offer.model.entity.Offer;
 import com.prgrms.offer.domain.offer.repository.OfferRepository;
-import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -43,7 +44,7 @@ public class MessageService {
 
     // 이미 보낸적 있는 사람에겐 채팅방 생성하지 않고 기존 채팅방 사용하기
     @Transactional
-    public void sendMessageToOffererOnclickMessageButton(long receiverId, String senderLoginId,
+    public void sendMessageToOffererOnclickMessageButton(long receiverId, JwtAuthentication authentication,
         long articleId,
         long offerId,
         String content) {
@@ -51,7 +52,7 @@ public class MessageService {
         Member receiver = memberRepository.findById(receiverId)
             .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        Member sender = memberRepository.findByPrincipal(senderLoginId)
+        Member sender = AuthenticatedMembers.find(memberRepository, authentication)
             .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         Article article = articleRepository.findById(articleId)
@@ -83,23 +84,22 @@ public class MessageService {
 
         messageRepository.save(myMessage);
         messageRepository.save(offererMessage);
+
+        messageRoomRepository.updateLastMessage(myMessage);
+        messageRoomRepository.updateLastMessage(offererMessage);
     }
 
     // 쪽지함 가져오기
     @Transactional(readOnly = true)
-    public Page<MessageRoomResponse> getMessageBox(String loginId, Pageable pageable) {
-        Member me = memberRepository.findByPrincipal(loginId).get();
-
-        List<MessageRoom> messageRoomList = messageRoomRepository.findByMemberId(me.getId(), pageable);
-
-        List<Message> messageList = messageRoomList.stream().map(
-            messageRoom -> messageRepository.findTop1ByMessageRoomOrderByCreatedDateDesc(
-                messageRoom)).collect(Collectors.toList());
+    public Page<MessageRoomResponse> getMessageBox(JwtAuthentication authentication, Pageable pageable) {
+        Member me = AuthenticatedMembers.find(memberRepository, authentication)
+            .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        long numMessageRoom = messageRoomRepository.countMessageRoomByMember(me);
+        Page<MessageRoomWithLastMessage> messageRoomPage =
+            messageRoomRepository.findMessageBoxByMemberId(me.getId(), pageable);
 
         Page<MessageRoomResponse> messageRoomResponsePage =
-            messageRoomConverter.toMessageRoomResponsePage(messageRoomList, messageList, numMessageRoom, pageable);
+            messageRoomConverter.toMessageRoomResponsePage(messageRoomPage);
 
         return messageRoomResponsePage;
     }
@@ -109,12 +109,12 @@ public class MessageService {
     public OutgoingMessageResponse sendMessage(
         long messageRoomId,
         MessageRequest messageRequest,
-        String loginId) {
+        JwtAuthentication authentication) {
         // 내가 대화방을 나간 상황
         MessageRoom myMessageRoom = messageRoomRepository.findById(messageRoomId)
             .orElseThrow(() -> new BusinessException(ResponseMessage.EXITED_MESSAGE_ROOM));
 
-        isAuthenticatedUser(loginId, myMessageRoom);
+        isAuthenticatedUser(authentication, myMessageRoom);
 
         // 상대방이 대화방을 나간 상황
         Member messagePartner = myMessageRoom.getMessagePartner();
@@ -142,19 +142,22 @@ public class MessageService {
         messageRepository.save(myMessage);
         messageRepository.save(receiverMessage);
 
+        messageRoomRepository.updateLastMessage(myMessage);
+        messageRoomRepository.updateLastMessage(receiverMessage);
+
         return messageConverter.toOutgoingMessageResponse(myMessage.getContent(),
             myMessage.getCreatedDate());
 
     }
 
     @Transactional(readOnly = true)
-    public Page<MessageContentResponse> getMessageRoomContents(long messageRoomId, String loginId,
+    public Page<MessageContentResponse> getMessageRoomContents(long messageRoomId, JwtAuthentication authentication,
         Pageable pageable) {
 
         MessageRoom myMessageRoom = messageRoomRepository.findById(messageRoomId)
             .orElseThrow(() -> new BusinessException(ResponseMessage.MESSAGE_ROOM_NOT_FOUND));
 
-        isAuthenticatedUser(loginId, myMessageRoom);
+        isAuthenticatedUser(authentication, myMessageRoom);
 
         Page<Message> messageContentPage = messageRepository.findByMessageRoomOrderByMessageIdAsc(
             myMessageRoom, pageable);
@@ -164,12 +167,12 @@ public class MessageService {
     }
 
     @Transactional(readOnly = true)
-    public MessageRoomInfoResponse getMessageRoomInfo(long messageRoomId, String loginId) {
+    public MessageRoomInfoResponse getMessageRoomInfo(long messageRoomId, JwtAuthentication authentication) {
 
         MessageRoom myMessageRoom = messageRoomRepository.findById(messageRoomId)
             .orElseThrow(() -> new BusinessException(ResponseMessage.MESSAGE_ROOM_NOT_FOUND));
 
-        isAuthenticatedUser(loginId, myMessageRoom);
+        isAuthenticatedUser(authentication, myMessageRoom);
 
         Member messagePartner = myMessageRoom.getMessagePartner();
 
@@ -194,12 +197,12 @@ public class MessageService {
         return messageRoomRepository.save(new MessageRoom(member1, member2, article, offer));
     }
 
-    private Member isAuthenticatedUser(String loginId, MessageRoom myMessageRoom) {
-        Member me = memberRepository.findByPrincipal(loginId)
+    private Member isAuthenticatedUser(JwtAuthentication authentication, MessageRoom myMessageRoom) {
+        Member me = AuthenticatedMembers.find(memberRepository, authentication)
             .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         // 다른 멤버의 대화방에 접근한 경우
-        if (me.getId() != myMessageRoom.getMember().getId()) {
+        if (!me.getId().equals(myMessageRoom.getMember().getId())) {
             throw new BusinessException(ResponseMessage.PERMISSION_DENIED);
         }
 
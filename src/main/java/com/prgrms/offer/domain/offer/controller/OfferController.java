@@ -4,6 +4,7 @@ import com.prgrms.offer.common.ApiResponse;
 import com.prgrms.offer.common.message.ResponseMessage;
 import com.prgrms.offer.common.page.PageDto;
 import com.prgrms.offer.common.page.PageInfo;
+import com.prgrms.offer.common.page.TotalCountMode;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.offer.model.dto.OfferBriefResponse;
@@ -21,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.validation.Valid;
 
@@ -68,6 +70,14 @@ public class OfferController {
         );
     }
 
+    @ApiOperation("단건 게시글 새 offer 구독(SSE, 게시글 작성자만)")
+    @GetMapping(value = "/articles/{articleId}/offers/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeFeed(@PathVariable Long articleId, @AuthenticationPrincipal JwtAuthentication authentication) {
+        validateJwtAuthentication(authentication);
+
+        return offerService.subscribeFeed(articleId, authentication);
+    }
+
     @ApiOperation("가격채택")
     @PatchMapping(value = "/articles/offers/{offerId}")
     public ResponseEntity<ApiResponse> adopteOffer(@PathVariable Long offerId, @AuthenticationPrincipal JwtAuthentication authentication) {
@@ -93,7 +103,8 @@ public class OfferController {
                 pageResponses.getPageable().getPageSize(),
                 pageResponses.getTotalElements(),
                 pageResponses.isLast(),
-                pageResponses.isFirst()
+                pageResponses.isFirst(),
+                TotalCountMode.of(pageResponses)
         );
     }
 }
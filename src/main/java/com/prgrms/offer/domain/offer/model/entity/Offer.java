@@ -14,10 +14,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Table(indexes = {
         @Index(name = "offer_idx_article_id_is_Selected", columnList = "article_id, isSelected"),
-        @Index(name = "offer_idx_article_id", columnList = "article_id")
+        @Index(name = "offer_idx_article_id", columnList = "article_id"),
+        @Index(name = Offer.OFFER_NUMBER_UNIQUE_INDEX, columnList = "offerer_id, article_id, offerNumber", unique = true)
 })
 public class Offer {
 
+    // 같은 사용자가 같은 게시글에 동시에 제안해도 같은 번째의 제안은 하나만 저장되도록 보장
+    public static final String OFFER_NUMBER_UNIQUE_INDEX = "offer_uidx_offerer_id_article_id_offer_number";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "offer_id")
@@ -40,6 +44,10 @@ public class Offer {
     @Column
     private LocalDateTime createdDate;
 
+    // 해당 사용자가 이 게시글에 한 몇 번째 제안인지 (1 부터 시작)
+    @Column
+    private Integer offerNumber;
+
     public void selectOffer() {
         this.isSelected = true;
     }
@@ -6,7 +6,6 @@ import com.prgrms.offer.domain.offer.model.entity.Offer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -16,21 +15,21 @@ public interface OfferRepository extends JpaRepository<Offer, Long> {
     @Override
     <S extends Offer> S save(S entity);
 
+    // 파생 쿼리는 offerer, article을 left join한 뒤 조건을 걸어 인덱스를 타지 못하므로 FK 컬럼으로 직접 조회
+    @Query("SELECT COUNT(o) FROM Offer o WHERE o.offerer.id = :offererId AND o.article.id = :articleId")
     Long countByOffererIdAndArticleId(Long offererId, Long articleId);
 
+    @Query(value = "SELECT o FROM Offer o WHERE o.article.id = :articleId",
+            countQuery = "SELECT COUNT(o) FROM Offer o WHERE o.article.id = :articleId")
     Page<Offer> findAllByArticleId(Pageable pageable, Long articleId);
 
-    Page<Offer> findAllByOffererAndIsSelected(Pageable pageable, Member offerer, boolean isSelected);
-
     boolean existsByArticleAndIsSelected(Article article, boolean isSelected);
 
     Optional<Offer> findByArticleAndIsSelected(Article article, boolean isSelected);
 
     long countOffersByOfferer(Member member);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Offer o SET o.article = NULL WHERE o.article = :article")
-    void doOnDeleteSetNullFromArticle(Article article);
-
-    List<Offer> findAllByOffererIdAndArticleId(Long offererId, Long articleId);
+    // 제안 횟수와 같은 가격 여부만 확인하면 되므로 엔티티 대신 가격만 조회
+    @Query("SELECT o.price FROM Offer o WHERE o.offerer.id = :offererId AND o.article.id = :articleId")
+    List<Integer> findPricesByOffererIdAndArticleId(Long offererId, Long articleId);
 }
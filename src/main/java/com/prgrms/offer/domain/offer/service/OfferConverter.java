@@ -12,13 +12,14 @@ import java.time.LocalDateTime;
 
 @Component
 public class OfferConverter {
-    public Offer toEntity(Article article, Member offerer, int price){
+    public Offer toEntity(Article article, Member offerer, int price, int offerNumber){
         return Offer.builder()
                 .article(article)
                 .offerer(offerer)
                 .price(price)
                 .createdDate(LocalDateTime.now())
                 .isSelected(false)
+                .offerNumber(offerNumber)
                 .build();
     }
 
@@ -0,0 +1,285 @@
+package com.prgrms.offer.domain.offer.service;
+
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.domain.offer.model.dto.OfferBriefResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 게시글별 가격 제안 SSE 구독자들에게 새 제안을 전달하는 프로세스 내 fan-out hub
+ * 구독자마다 크기가 제한된 버퍼를 두고 별도 스레드에서 보내므로, 느린 구독자가 있어도 제안 요청은 기다리지 않음
+ * 버퍼가 가득 찬 (따라가지 못하는) 구독자는 연결을 끊고, 클라이언트는 다시 연결하여 목록부터 조회함
+ * 연결마다 스레드와 버퍼를 차지하므로 게시글별, 전체 구독자 수를 제한함
+ * 전송 (블로킹 write) 이 정해진 시간을 넘긴 구독자는 heartbeat 주기에 구독자에서 빼고, 붙잡힌 전송 스레드만큼 스레드를 더 띄움
+ */
+@Slf4j
+@Component
+public class OfferFeedHub {
+
+    public static final String OFFER_EVENT = "offer";
+
+    private final Map<Long, Set<Subscriber>> subscribersByArticleId = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int maxSubscribersPerArticle;
+    private final int maxSubscribers;
+    private final long sendTimeoutNanos;
+
+    // 구독자마다 동시에 하나의 전송 작업만 올라가므로 대기열은 (제한된) 구독자 수를 넘지 않음
+    private final ThreadPoolExecutor dispatchExecutor;
+    private final int dispatchThreads;
+
+    // 멈춘 전송에 붙잡힌 스레드 대신 더 띄운 스레드 수 (dispatchThreads 까지만 늘림)
+    private int extraDispatchThreads;
+
+    public OfferFeedHub(PropertyProvider propertyProvider) {
+        this.bufferSize = propertyProvider.getOFFER_FEED_BUFFER_SIZE();
+        this.timeoutMillis = propertyProvider.getOFFER_FEED_TIMEOUT_MILLIS();
+        this.maxSubscribersPerArticle = propertyProvider.getOFFER_FEED_MAX_SUBSCRIBERS_PER_ARTICLE();
+        this.maxSubscribers = propertyProvider.getOFFER_FEED_MAX_SUBSCRIBERS();
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(propertyProvider.getOFFER_FEED_SEND_TIMEOUT_MILLIS());
+
+        this.dispatchThreads = propertyProvider.getOFFER_FEED_DISPATCH_THREADS();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatchExecutor = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "offer-feed-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public SseEmitter subscribe(Long articleId) {
+        return subscribe(articleId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(Long articleId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ResponseMessage.OFFER_FEED_SUBSCRIBER_LIMIT_EXCEEDED);
+        }
+
+        Subscriber subscriber = new Subscriber(articleId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        // 마지막 구독자가 빠지며 Set 이 지워지는 것과 겹치지 않도록 compute 안에서 추가
+        AtomicBoolean added = new AtomicBoolean();
+        subscribersByArticleId.compute(articleId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            if (target.size() < maxSubscribersPerArticle) {
+                added.set(target.add(subscriber));
+            }
+            return target.isEmpty() ? null : target;
+        });
+        if (!added.get()) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ResponseMessage.OFFER_FEED_SUBSCRIBER_LIMIT_EXCEEDED);
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    // 구독자가 없으면 응답을 만들지 않아도 되도록 확인용으로 사용
+    public boolean hasSubscribers(Long articleId) {
+        Set<Subscriber> subscribers = subscribersByArticleId.get(articleId);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    public void publish(Long articleId, OfferBriefResponse offer) {
+        Set<Subscriber> subscribers = subscribersByArticleId.get(articleId);
+        if (subscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(offer)) {
+                log.info("OFFER_FEED_SLOW_SUBSCRIBER articleId={}", articleId);
+                close(subscriber);
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 프록시 등을 거치며 끊긴 연결을 찾아내고, 유휴 연결이 중간에서 끊기지 않도록 주기적으로 주석 이벤트를 보냄
+    // 보내는 것은 전송 스레드에 맡기므로, 느린 연결이 있어도 공용 스케줄러 스레드 (조회수 flush 등) 를 붙잡지 않음
+    // 전송이 sendTimeout 을 넘긴 구독자는 여기서 빼고 전송 스레드를 interrupt 함
+    // (emitter 의 send 와 complete 는 같은 lock 을 잡으므로 여기서 complete 하지 않고, 전송이 끝난 스레드가 연결을 닫음)
+    @Scheduled(fixedDelayString = "${offer.feed_heartbeat_interval_ms}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribersByArticleId.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (subscriber.markStalled(now, sendTimeoutNanos, this::addDispatchThread)) {
+                log.info("OFFER_FEED_STALLED_SUBSCRIBER articleId={}", subscriber.articleId);
+                remove(subscriber);
+                subscriber.buffer.clear();
+                return;
+            }
+            subscriber.heartbeatPending.set(true);
+            scheduleDrain(subscriber);
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        subscribersByArticleId.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByArticleId.clear();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatchExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.heartbeatPending.getAndSet(false)) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+
+            OfferBriefResponse offer;
+            while (!subscriber.stalled && (offer = subscriber.buffer.poll()) != null) {
+                send(subscriber, SseEmitter.event()
+                        .name(OFFER_EVENT)
+                        .id(String.valueOf(offer.getId()))
+                        .data(offer));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (subscriber.stalled) {
+            close(subscriber);
+            return;
+        }
+
+        // drain 을 끝내는 사이에 들어온 제안이나 heartbeat 가 있으면 다시 전송
+        if (!subscriber.buffer.isEmpty() || subscriber.heartbeatPending.get()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.beginSend();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            if (subscriber.endSend()) {
+                removeDispatchThread();
+            }
+        }
+    }
+
+    // 늘릴 때는 max 부터, 줄일 때는 core 부터 바꿔야 core <= max 가 유지됨
+    // core 를 늘리면 대기열에 쌓인 전송 작업을 위해 바로 스레드를 띄우고, 줄이면 남는 스레드는 쉬게 될 때 끝남
+    private synchronized boolean addDispatchThread() {
+        if (extraDispatchThreads >= dispatchThreads || dispatchExecutor.isShutdown()) {
+            return false;
+        }
+        extraDispatchThreads++;
+        dispatchExecutor.setMaximumPoolSize(dispatchThreads + extraDispatchThreads);
+        dispatchExecutor.setCorePoolSize(dispatchThreads + extraDispatchThreads);
+        return true;
+    }
+
+    private synchronized void removeDispatchThread() {
+        extraDispatchThreads--;
+        dispatchExecutor.setCorePoolSize(dispatchThreads + extraDispatchThreads);
+        dispatchExecutor.setMaximumPoolSize(dispatchThreads + extraDispatchThreads);
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.buffer.clear();
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        // 완료, timeout, 오류 콜백이 겹쳐 불려도 한 번만 빼도록 Set 에서 실제로 지운 경우만 수를 줄임
+        subscribersByArticleId.computeIfPresent(subscriber.articleId, (articleId, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static class Subscriber {
+
+        private final Long articleId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<OfferBriefResponse> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+
+        // 진행 중인 전송 (없으면 sender 가 null), 아래 필드는 this 로 보호함
+        private Thread sender;
+        private long sendStartedAt;
+        private boolean compensated;
+
+        private volatile boolean stalled;
+
+        private Subscriber(Long articleId, SseEmitter emitter, BlockingQueue<OfferBriefResponse> buffer) {
+            this.articleId = articleId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private synchronized void beginSend() {
+            sender = Thread.currentThread();
+            sendStartedAt = System.nanoTime();
+        }
+
+        // 멈춘 것으로 처리되어 스레드를 더 띄웠던 전송이면 true (interrupt 표시는 다음 전송에 남기지 않음)
+        private synchronized boolean endSend() {
+            sender = null;
+            if (stalled) {
+                Thread.interrupted();
+            }
+
+            boolean wasCompensated = compensated;
+            compensated = false;
+            return wasCompensated;
+        }
+
+        private synchronized boolean markStalled(long now, long sendTimeoutNanos, BooleanSupplier addDispatchThread) {
+            if (sender == null || stalled || now - sendStartedAt < sendTimeoutNanos) {
+                return false;
+            }
+
+            stalled = true;
+            compensated = addDispatchThread.getAsBoolean();
+            sender.interrupt();
+            return true;
+        }
+    }
+}
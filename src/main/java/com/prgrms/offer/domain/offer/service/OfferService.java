@@ -1,12 +1,14 @@
 package com.prgrms.offer.domain.offer.service;
 
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.utils.TransactionCallbacks;
 import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.service.AuthenticatedMembers;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
 import com.prgrms.offer.domain.offer.model.dto.OfferBriefResponse;
 import com.prgrms.offer.domain.offer.model.dto.OfferCreateRequest;
@@ -14,12 +16,17 @@ import com.prgrms.offer.domain.offer.model.dto.OfferResponse;
 import com.prgrms.offer.domain.offer.model.entity.Offer;
 import com.prgrms.offer.domain.offer.repository.OfferRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -29,36 +36,62 @@ public class OfferService {
     private final MemberRepository memberRepository;
     private final ArticleRepository articleRepository;
     private final OfferConverter converter;
+    private final OfferFeedHub offerFeedHub;
 
     private final PropertyProvider propertyProvider;
 
+    private final EntityManager entityManager;
+
     @Transactional
     public OfferResponse offer(OfferCreateRequest request, Long articleId, JwtAuthentication authentication) {
-        Member offerer = memberRepository.findByPrincipal(authentication.loginId)
+        Member offerer = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        List<Offer> offers = offerRepository.findAllByOffererIdAndArticleId(offerer.getId(), articleId);
-        int offerCountOfCurrentMember = offers.size();
+        List<Integer> prices = offerRepository.findPricesByOffererIdAndArticleId(offerer.getId(), articleId);
+        int offerCountOfCurrentMember = prices.size();
 
         if (offerCountOfCurrentMember >= propertyProvider.getMAX_AVAIL_OFFER_COUNT()) {
             throw new BusinessException(ResponseMessage.EXCEED_OFFER_COUNT);
         }
 
-        if(offerCountOfCurrentMember == 1){
-            Offer prevOffer = offers.get(0);
+        if (prices.contains(request.getPrice())) {
+            throw new BusinessException(ResponseMessage.ALREADY_EXIST_SAME_PRICE_OFFER);
+        }
 
-            if(prevOffer.getPrice().intValue() == request.getPrice()){
-                throw new BusinessException(ResponseMessage.ALREADY_EXIST_SAME_PRICE_OFFER);
+        // 게시글은 조회하지 않고 참조만 걸어둠 (없는 게시글이면 insert 시 FK 위반)
+        Offer offer = converter.toEntity(
+                articleRepository.getById(articleId), offerer, request.getPrice(), offerCountOfCurrentMember + 1);
+
+        // 같은 번째 제안은 unique 인덱스로 하나만 저장되므로, 동시에 요청해도 최대 제안 횟수를 넘지 않음
+        Offer offerEntity;
+        try {
+            offerEntity = offerRepository.saveAndFlush(offer);
+        } catch (DataIntegrityViolationException e) {
+            if (isOfferNumberTaken(e)) {
+                throw new BusinessException(ResponseMessage.CONCURRENT_OFFER);
             }
+            // 참조만 걸어둔 게시글이 없어서 실패한 경우만 ARTICLE_NOT_FOUND 로 바꾸고, 그 외의 위반은 그대로 던짐
+            // flush 에 실패한 제안이 다시 flush 되지 않도록 영속성 컨텍스트를 비운 뒤 확인 (트랜잭션은 어차피 롤백됨)
+            entityManager.clear();
+            if (!articleRepository.existsById(articleId)) {
+                throw new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND);
+            }
+            throw e;
         }
 
-        Article article = articleRepository.findById(articleId)
+        publishToFeed(articleId, offerEntity);
+
+        return converter.toOfferResponse(offerEntity, offerCountOfCurrentMember + 1);
+    }
+
+    // 연결이 오래 유지되므로 트랜잭션 없이 작성자만 확인하고 구독 (OSIV 를 꺼 두어 커넥션을 붙잡지 않음)
+    public SseEmitter subscribeFeed(Long articleId, JwtAuthentication authentication) {
+        Article article = articleRepository.findWithWriterById(articleId)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND));
 
-        Offer offer = converter.toEntity(article, offerer, request.getPrice());
-        Offer offerEntity = offerRepository.save(offer);
+        validateWriterOrElseThrow(article, authentication.loginId);
 
-        return converter.toOfferResponse(offerEntity, offerCountOfCurrentMember + 1);
+        return offerFeedHub.subscribe(articleId);
     }
 
     @Transactional(readOnly = true)
@@ -82,6 +115,16 @@ public class OfferService {
         offer.selectOffer();
     }
 
+    private boolean isOfferNumberTaken(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException)) {
+            return false;
+        }
+
+        String constraintName = ((ConstraintViolationException) e.getCause()).getConstraintName();
+        return constraintName != null
+                && constraintName.toLowerCase(Locale.ROOT).contains(Offer.OFFER_NUMBER_UNIQUE_INDEX);
+    }
+
     private void validateWriterOrElseThrow(Article article, String principal) {
         if (!article.validateWriterByPrincipal(principal)) {
             throw new BusinessException(ResponseMessage.PERMISSION_DENIED);
@@ -94,11 +137,21 @@ public class OfferService {
             return 0;
         }
 
-        Member currentMember = memberRepository.findByPrincipal(authentication.loginId)
+        Member currentMember = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         final int offerCountOfCurrentMember = (int) offerRepository.countByOffererIdAndArticleId(currentMember.getId(), articleId).longValue();
 
         return offerCountOfCurrentMember;
     }
+
+    // 응답은 트랜잭션 안에서 만들어 두고, 커밋된 뒤에만 구독자에게 보냄 (롤백된 제안은 보내지 않음)
+    private void publishToFeed(Long articleId, Offer offer) {
+        if (!offerFeedHub.hasSubscribers(articleId)) {
+            return;
+        }
+
+        OfferBriefResponse response = converter.toOfferOfferBriefResponse(offer);
+        TransactionCallbacks.afterCommit(() -> offerFeedHub.publish(articleId, response));
+    }
 }
@@ -4,6 +4,7 @@ import com.prgrms.offer.common.ApiResponse;
 import com.prgrms.offer.common.message.ResponseMessage;
 import com.prgrms.offer.common.page.PageDto;
 import com.prgrms.offer.common.page.PageInfo;
+import com.prgrms.offer.common.page.TotalCountMode;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.review.model.dto.ReviewCreateRequest;
@@ -101,7 +102,8 @@ public class ReviewController {
                 pageResponses.getPageable().getPageSize(),
                 pageResponses.getTotalElements(),
                 pageResponses.isLast(),
-                pageResponses.isFirst()
+                pageResponses.isFirst(),
+                TotalCountMode.of(pageResponses)
         );
     }
 }
@@ -6,7 +6,6 @@ import com.prgrms.offer.domain.review.model.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
@@ -17,13 +16,13 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     boolean existsByReviewerAndArticle(Member reviewer, Article article);
 
+    // 파생 쿼리는 reviewee 를 left join 한 뒤 조건을 걸어 인덱스를 타지 못하므로 FK 컬럼으로 직접 조회
+    @Query(value = "SELECT r FROM Review r WHERE r.reviewee.id = :revieweeId AND r.isRevieweeBuyer = :isRevieweeBuyer",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.reviewee.id = :revieweeId AND r.isRevieweeBuyer = :isRevieweeBuyer")
     Page<Review> findAllByRevieweeIdAndIsRevieweeBuyer(Pageable pageable, Long revieweeId, boolean isRevieweeBuyer);
 
     Optional<Review> findByReviewerAndArticle(Member reviewer, Article article);
 
     long countReviewsByReviewee(Member member);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Review r SET r.article = NULL WHERE r.article = :article")
-    void doOnDeleteSetNullFromArticle(Article article);
 }
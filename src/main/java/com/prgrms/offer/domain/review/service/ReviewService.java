@@ -1,12 +1,15 @@
 package com.prgrms.offer.domain.review.service;
 
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.utils.TransactionCallbacks;
 import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import com.prgrms.offer.domain.article.service.ArticleDetailCache;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.service.AuthenticatedMembers;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
 import com.prgrms.offer.domain.offer.model.entity.Offer;
 import com.prgrms.offer.domain.offer.repository.OfferRepository;
@@ -34,6 +37,7 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final ArticleRepository articleRepository;
     private final ReviewConverter converter;
+    private final ArticleDetailCache articleDetailCache;
 
     private final PropertyProvider propertyProvider;
 
@@ -42,7 +46,7 @@ public class ReviewService {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND));
 
-        Member reviewer = memberRepository.findByPrincipal(authentication.loginId)
+        Member reviewer = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         if (reviewRepository.existsByReviewerAndArticle(reviewer, article)) {
@@ -82,7 +86,7 @@ public class ReviewService {
         Page<Review> reviewPage = reviewRepository.findAllByRevieweeIdAndIsRevieweeBuyer(pageable, memberId, isRevieweeBuyer);
 
         if (authenticationOptional.isPresent()) { // 로그인 한 경우
-            Member currentMember = memberRepository.findByPrincipal(authenticationOptional.get().loginId)
+            Member currentMember = AuthenticatedMembers.find(memberRepository, authenticationOptional.get())
                     .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
             boolean isSameAsCurrentMemberAndMyPageMember = currentMember.getId().longValue() == memberId;
@@ -110,6 +114,11 @@ public class ReviewService {
     void updateOfferScore(Member reviewee, int curScore) {
         int score = reviewee.evaluateScore(curScore);
         OfferLevel offerLevel = OfferLevel.calculateOfferLevel(score);
+        if (reviewee.getOfferLevel() != offerLevel.getLevel()) {
+            // 게시글 상세에 작성자의 offerLevel 이 포함되므로 캐시된 상세 정보를 무효화
+            Long revieweeId = reviewee.getId();
+            TransactionCallbacks.afterCommit(() -> articleDetailCache.evictByWriterId(revieweeId));
+        }
         reviewee.chageOfferLevel(offerLevel.getLevel());
     }
 
@@ -118,7 +127,7 @@ public class ReviewService {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.ARTICLE_NOT_FOUND));
 
-        Member reviewer = memberRepository.findByPrincipal(authentication.loginId)
+        Member reviewer = AuthenticatedMembers.find(memberRepository, authentication)
                 .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
         Review review = reviewRepository.findByReviewerAndArticle(reviewer, article)
@@ -2,8 +2,10 @@ package com.prgrms.offer.domain.search.controller;
 
 import com.prgrms.offer.common.ApiResponse;
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.page.Cursor;
 import com.prgrms.offer.common.page.PageDto;
 import com.prgrms.offer.common.page.PageInfo;
+import com.prgrms.offer.common.page.TotalCountMode;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.dto.ArticleBriefViewResponse;
 import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
@@ -14,6 +16,7 @@ import javax.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
@@ -35,7 +38,16 @@ public class ArticleSearchController {
     public ResponseEntity<ApiResponse> searchWithTitle(
         @RequestParam(value = "title") @NotBlank String title,
         @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC, size = 20) Pageable pageable,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @AuthenticationPrincipal JwtAuthentication authentication) {
+
+        if (cursor != null) {
+            SearchFilterRequest searchFilterRequest = SearchFilterRequest.builder()
+                .title(title).build();
+
+            return getCursorResponse(searchFilterRequest, cursor, pageable, authentication);
+        }
+
         Page<ArticleBriefViewResponse> articleBriefViewResponse = articleSearchService.findByTitle(
             title, pageable, Optional.ofNullable(authentication));
 
@@ -55,6 +67,7 @@ public class ArticleSearchController {
         @RequestParam(value = "minPrice") @Nullable Integer minPrice,
         @RequestParam(value = "maxPrice") @Nullable Integer maxPrice,
         @PageableDefault(sort = "createdDate", direction = Sort.Direction.DESC, size = 20) Pageable pageable,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @AuthenticationPrincipal JwtAuthentication authentication) {
 
         SearchFilterRequest searchFilterRequest = SearchFilterRequest.builder()
@@ -64,6 +77,10 @@ public class ArticleSearchController {
             .minPrice(minPrice)
             .maxPrice(maxPrice).build();
 
+        if (cursor != null) {
+            return getCursorResponse(searchFilterRequest, cursor, pageable, authentication);
+        }
+
         Page<ArticleBriefViewResponse> articleBriefViewResponsePage = articleSearchService.findByFilter(
             searchFilterRequest, pageable, Optional.ofNullable(authentication)
         );
@@ -76,6 +93,25 @@ public class ArticleSearchController {
 
     }
 
+    // cursor 파라미터가 비어 있으면 첫 페이지, 값이 있으면 해당 위치 다음부터 조회
+    private ResponseEntity<ApiResponse> getCursorResponse(
+        SearchFilterRequest searchFilterRequest,
+        String cursor,
+        Pageable pageable,
+        JwtAuthentication authentication) {
+
+        Slice<ArticleBriefViewResponse> articleBriefViewResponseSlice = articleSearchService.findByFilterByCursor(
+            searchFilterRequest,
+            Optional.of(cursor).filter(c -> !c.isBlank()).map(Cursor::parseId),
+            pageable.getPageSize(),
+            Optional.ofNullable(authentication));
+
+        return ResponseEntity.ok(
+            ApiResponse.of(ResponseMessage.SUCCESS,
+                PageDto.ofCursor(articleBriefViewResponseSlice.getContent(),
+                    Cursor.nextId(articleBriefViewResponseSlice, ArticleBriefViewResponse::getId))));
+    }
+
     private PageInfo getPageInfo(Page<ArticleBriefViewResponse> pageResponses) {
         return PageInfo.of(
             pageResponses.getPageable().getPageNumber(),
@@ -83,7 +119,8 @@ public class ArticleSearchController {
             pageResponses.getPageable().getPageSize(),
             pageResponses.getTotalElements(),
             pageResponses.isLast(),
-            pageResponses.isFirst()
+            pageResponses.isFirst(),
+            TotalCountMode.of(pageResponses)
         );
     }
 
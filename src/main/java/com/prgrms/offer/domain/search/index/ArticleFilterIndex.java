@@ -0,0 +1,206 @@
+package com.prgrms.offer.domain.search.index;
+
+import com.prgrms.offer.domain.article.repository.ArticleSearchDocument;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리, 거래방식, 거래상태 값마다 게시글 id bitmap 을 두고, 가격은 정렬된 배열로 관리하는 메모리 필터 인덱스
+ * 필터 조합은 bitmap 의 AND/OR 로, 가격 범위는 이진 탐색으로 후보를 구함
+ * (값의 종류가 적은 enum 컬럼이라 값마다 bitmap 을 두어도 메모리 부담이 작음)
+ */
+class ArticleFilterIndex {
+
+    private static final int INITIAL_PRICE_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, ArticleSearchDocument> documents = new HashMap<>();
+
+    private final Map<Integer, BitSet> categoryBitmaps = new HashMap<>();
+    private final Map<Integer, BitSet> tradeMethodBitmaps = new HashMap<>();
+    private final Map<Integer, BitSet> tradeStatusBitmaps = new HashMap<>();
+
+    // (price << 32 | id) 를 오름차순으로 정렬해 둔 배열, 앞의 priceEntryCount 개만 유효
+    private long[] priceEntries = new long[INITIAL_PRICE_CAPACITY];
+    private int priceEntryCount = 0;
+
+    void put(ArticleSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(document.getId());
+
+            int bit = toBit(document.getId());
+            documents.put(document.getId(), document);
+            setBit(categoryBitmaps, document.getCategoryCode(), bit);
+            setBit(tradeMethodBitmaps, document.getTradeMethodCode(), bit);
+            setBit(tradeStatusBitmaps, document.getTradeStatusCode(), bit);
+            if (document.getPrice() != null) {
+                insertPriceEntry(toPriceEntry(document.getPrice(), bit));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void updateTradeStatus(Long articleId, Integer tradeStatusCode) {
+        lock.writeLock().lock();
+        try {
+            ArticleSearchDocument document = documents.get(articleId);
+            if (document == null) {
+                return;
+            }
+
+            int bit = toBit(articleId);
+            clearBit(tradeStatusBitmaps, document.getTradeStatusCode(), bit);
+            setBit(tradeStatusBitmaps, tradeStatusCode, bit);
+            documents.put(articleId, new ArticleSearchDocument(
+                document.getId(),
+                document.getTitle(),
+                document.getCategoryCode(),
+                document.getTradeMethodCode(),
+                tradeStatusCode,
+                document.getPrice()
+            ));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건을 모두 만족하는 게시글 id bitmap 을 반환 (null 인 조건은 무시)
+     * tradeStatusCodes 는 OR, 나머지 조건은 AND 로 결합
+     */
+    BitSet filter(
+        Collection<Integer> tradeStatusCodes,
+        Integer categoryCode,
+        Integer tradeMethodCode,
+        Integer minPrice,
+        Integer maxPrice) {
+
+        lock.readLock().lock();
+        try {
+            BitSet result = new BitSet();
+            for (Integer tradeStatusCode : tradeStatusCodes) {
+                BitSet bitmap = tradeStatusBitmaps.get(tradeStatusCode);
+                if (bitmap != null) {
+                    result.or(bitmap);
+                }
+            }
+
+            if (categoryCode != null) {
+                result.and(categoryBitmaps.getOrDefault(categoryCode, new BitSet()));
+            }
+            if (tradeMethodCode != null) {
+                result.and(tradeMethodBitmaps.getOrDefault(tradeMethodCode, new BitSet()));
+            }
+            if ((minPrice != null || maxPrice != null) && !result.isEmpty()) {
+                result.and(findByPriceRange(minPrice, maxPrice));
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet findByPriceRange(Integer minPrice, Integer maxPrice) {
+        int from = minPrice == null ? 0 : lowerBound(toPriceEntry(minPrice, 0));
+        int to = maxPrice == null || maxPrice == Integer.MAX_VALUE
+            ? priceEntryCount : lowerBound(toPriceEntry(maxPrice + 1, 0));
+
+        BitSet bitmap = new BitSet();
+        for (int i = from; i < to; i++) {
+            bitmap.set((int) priceEntries[i]);
+        }
+
+        return bitmap;
+    }
+
+    private void removeWithoutLock(Long articleId) {
+        ArticleSearchDocument removed = documents.remove(articleId);
+        if (removed == null) {
+            return;
+        }
+
+        int bit = toBit(articleId);
+        clearBit(categoryBitmaps, removed.getCategoryCode(), bit);
+        clearBit(tradeMethodBitmaps, removed.getTradeMethodCode(), bit);
+        clearBit(tradeStatusBitmaps, removed.getTradeStatusCode(), bit);
+        if (removed.getPrice() != null) {
+            removePriceEntry(toPriceEntry(removed.getPrice(), bit));
+        }
+    }
+
+    private void insertPriceEntry(long entry) {
+        if (priceEntryCount == priceEntries.length) {
+            priceEntries = Arrays.copyOf(priceEntries, priceEntries.length * 2);
+        }
+
+        int index = lowerBound(entry);
+        System.arraycopy(priceEntries, index, priceEntries, index + 1, priceEntryCount - index);
+        priceEntries[index] = entry;
+        priceEntryCount++;
+    }
+
+    private void removePriceEntry(long entry) {
+        int index = Arrays.binarySearch(priceEntries, 0, priceEntryCount, entry);
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(priceEntries, index + 1, priceEntries, index, priceEntryCount - index - 1);
+        priceEntryCount--;
+    }
+
+    // entry 이상인 첫 위치
+    private int lowerBound(long entry) {
+        int low = 0;
+        int high = priceEntryCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (priceEntries[mid] < entry) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long toPriceEntry(int price, int bit) {
+        return ((long) price << 32) | bit;
+    }
+
+    private static void setBit(Map<Integer, BitSet> bitmaps, Integer code, int bit) {
+        if (code != null) {
+            bitmaps.computeIfAbsent(code, c -> new BitSet()).set(bit);
+        }
+    }
+
+    private static void clearBit(Map<Integer, BitSet> bitmaps, Integer code, int bit) {
+        BitSet bitmap = code == null ? null : bitmaps.get(code);
+        if (bitmap != null) {
+            bitmap.clear(bit);
+        }
+    }
+
+    // IDENTITY 로 발급되는 id 를 그대로 bit 위치로 사용
+    static int toBit(Long articleId) {
+        return Math.toIntExact(articleId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.prgrms.offer.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 검색 조건을 만족하는 게시글 id 집합 (id 를 bit 위치로 사용)
+ * IDENTITY 로 발급된 id 는 생성 순서대로 증가하므로 큰 bit 부터 읽으면 최신 게시글 순서가 됨
+ */
+public class ArticleIdBitmap {
+
+    private final BitSet bits;
+
+    ArticleIdBitmap(BitSet bits) {
+        this.bits = bits;
+    }
+
+    public int count() {
+        return bits.cardinality();
+    }
+
+    public List<Long> newestFirst(long offset, int limit) {
+        List<Long> articleIds = new ArrayList<>(limit);
+
+        long skipped = 0;
+        for (int id = bits.previousSetBit(bits.length() - 1); id >= 0 && articleIds.size() < limit;
+            id = bits.previousSetBit(id - 1)) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            articleIds.add((long) id);
+        }
+
+        return articleIds;
+    }
+
+    // cursor 로 받은 id 보다 작은(먼저 생성된) 게시글부터 최신 순으로 조회
+    public List<Long> newestFirstBefore(long beforeId, int limit) {
+        List<Long> articleIds = new ArrayList<>(limit);
+
+        int from = (int) Math.max(-1, Math.min(beforeId - 1, Integer.MAX_VALUE - 1));
+        for (int id = bits.previousSetBit(from); id >= 0 && articleIds.size() < limit;
+            id = bits.previousSetBit(id - 1)) {
+            articleIds.add((long) id);
+        }
+
+        return articleIds;
+    }
+}
@@ -0,0 +1,98 @@
+package com.prgrms.offer.domain.search.index;
+
+import com.prgrms.offer.common.utils.TransactionCallbacks;
+import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import com.prgrms.offer.domain.article.repository.ArticleSearchDocument;
+import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 검색용 메모리 인덱스 (제목 n-gram 역색인 + 필터 bitmap)
+ * 애플리케이션 시작 시 DB 에서 한 번 적재하고, 이후에는 ArticleService 의 쓰기 작업이 커밋된 뒤 반영됨
+ * 인스턴스마다 따로 유지되므로 다른 인스턴스에서 일어난 변경은 재시작 전까지 반영되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchEngine {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+
+    private final ArticleTitleIndex titleIndex = new ArticleTitleIndex();
+
+    private final ArticleFilterIndex filterIndex = new ArticleFilterIndex();
+
+    @PostConstruct
+    void load() {
+        long lastId = 0;
+
+        List<ArticleSearchDocument> documents;
+        do {
+            documents = articleRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ArticleSearchDocument document : documents) {
+                put(document);
+                lastId = document.getId();
+            }
+        } while (documents.size() == LOAD_BATCH_SIZE);
+
+        log.info("article search index loaded: {} articles", titleIndex.size());
+    }
+
+    public void index(ArticleSearchDocument document) {
+        TransactionCallbacks.afterCommit(() -> put(document));
+    }
+
+    public void updateTradeStatus(Long articleId, Integer tradeStatusCode) {
+        TransactionCallbacks.afterCommit(() -> {
+            titleIndex.updateTradeStatus(articleId, tradeStatusCode);
+            filterIndex.updateTradeStatus(articleId, tradeStatusCode);
+        });
+    }
+
+    public void remove(Long articleId) {
+        TransactionCallbacks.afterCommit(() -> {
+            titleIndex.remove(articleId);
+            filterIndex.remove(articleId);
+        });
+    }
+
+    // 제목에 검색어가 포함된 게시글 id 를 순위대로 반환 (ArticleTitleIndex.search 참고)
+    public List<Long> searchByTitle(String title, Collection<Integer> tradeStatusCodes) {
+        return titleIndex.search(title, tradeStatusCodes);
+    }
+
+    // 필터 조건을 모두 만족하는 게시글 id 집합을 반환
+    public ArticleIdBitmap searchByFilter(SearchFilterRequest searchFilterRequest, Collection<Integer> tradeStatusCodes) {
+        BitSet result = filterIndex.filter(
+            tradeStatusCodes,
+            searchFilterRequest.getCategoryCode(),
+            searchFilterRequest.getTradeMethodCode(),
+            searchFilterRequest.getMinPrice(),
+            searchFilterRequest.getMaxPrice()
+        );
+
+        if (searchFilterRequest.getTitle() != null && !result.isEmpty()) {
+            BitSet titleMatched = new BitSet();
+            for (Long articleId : titleIndex.search(searchFilterRequest.getTitle(), tradeStatusCodes)) {
+                titleMatched.set(ArticleFilterIndex.toBit(articleId));
+            }
+            result.and(titleMatched);
+        }
+
+        return new ArticleIdBitmap(result);
+    }
+
+    private void put(ArticleSearchDocument document) {
+        titleIndex.put(document);
+        filterIndex.put(document);
+    }
+}
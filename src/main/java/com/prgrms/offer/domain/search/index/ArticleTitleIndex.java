@@ -0,0 +1,169 @@
+package com.prgrms.offer.domain.search.index;
+
+import com.prgrms.offer.domain.article.repository.ArticleSearchDocument;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목에 대한 메모리 역색인
+ * 제목을 1-gram, 2-gram 으로 나누어 색인하므로 한글 부분 문자열도 like '%x%' 없이 찾을 수 있음
+ * 후보는 검색어의 n-gram 포스팅 리스트 교집합으로 구하고, 실제 포함 여부를 다시 확인해 containsIgnoreCase 와 같은 결과를 보장
+ */
+class ArticleTitleIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, IndexedTitle> titles = new HashMap<>();
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void updateTradeStatus(Long articleId, Integer tradeStatusCode) {
+        lock.writeLock().lock();
+        try {
+            IndexedTitle indexedTitle = titles.get(articleId);
+            if (indexedTitle != null) {
+                titles.put(articleId, new IndexedTitle(indexedTitle.title, tradeStatusCode));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목에 검색어가 포함되고 거래 상태가 tradeStatusCodes 중 하나인 게시글 id 를 순위대로 반환
+     * 순위: 제목이 검색어로 시작하는 게시글이 먼저, 그 안에서는 최신 게시글(id 내림차순)이 먼저
+     */
+    List<Long> search(String keyword, Collection<Integer> tradeStatusCodes) {
+        String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Long> matchedIds = new ArrayList<>();
+            for (Long candidateId : findCandidates(normalizedKeyword)) {
+                IndexedTitle indexedTitle = titles.get(candidateId);
+                if (tradeStatusCodes.contains(indexedTitle.tradeStatusCode)
+                    && indexedTitle.title.contains(normalizedKeyword)) {
+                    matchedIds.add(candidateId);
+                }
+            }
+
+            matchedIds.sort(Comparator
+                .comparing((Long id) -> !titles.get(id).title.startsWith(normalizedKeyword))
+                .thenComparing(Comparator.reverseOrder()));
+
+            return matchedIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가장 짧은 포스팅 리스트부터 교집합을 구함
+    private Set<Long> findCandidates(String normalizedKeyword) {
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for (String gram : toGrams(normalizedKeyword, normalizedKeyword.length() == 1 ? 1 : 2)) {
+            Set<Long> postingList = postings.get(gram);
+            if (postingList == null) {
+                return Set.of();
+            }
+            postingLists.add(postingList);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+
+        return candidates;
+    }
+
+    void put(ArticleSearchDocument document) {
+        String normalizedTitle = normalize(document.getTitle());
+
+        lock.writeLock().lock();
+        try {
+            removeWithoutLock(document.getId());
+
+            titles.put(document.getId(), new IndexedTitle(normalizedTitle, document.getTradeStatusCode()));
+            for (String gram : toAllGrams(normalizedTitle)) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(document.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeWithoutLock(Long articleId) {
+        IndexedTitle removed = titles.remove(articleId);
+        if (removed == null) {
+            return;
+        }
+
+        for (String gram : toAllGrams(removed.title)) {
+            Set<Long> postingList = postings.get(gram);
+            if (postingList != null && postingList.remove(articleId) && postingList.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> toAllGrams(String text) {
+        Set<String> grams = toGrams(text, 1);
+        grams.addAll(toGrams(text, 2));
+        return grams;
+    }
+
+    private static Set<String> toGrams(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static class IndexedTitle {
+
+        private final String title;
+        private final Integer tradeStatusCode;
+
+        private IndexedTitle(String title, Integer tradeStatusCode) {
+            this.title = title;
+            this.tradeStatusCode = tradeStatusCode;
+        }
+    }
+}
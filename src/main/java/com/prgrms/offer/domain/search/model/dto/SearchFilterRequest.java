@@ -13,4 +13,8 @@ public class SearchFilterRequest {
     private Integer minPrice;
     private Integer maxPrice;
 
+    public String toTotalCountCacheKey() {
+        return "search:" + title + ":" + categoryCode + ":" + tradeMethodCode + ":" + minPrice + ":" + maxPrice;
+    }
+
 }
@@ -1,24 +1,39 @@
 package com.prgrms.offer.domain.search.service;
 
-import static com.prgrms.offer.common.page.CollectionToPage.toPage;
-
 import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.common.page.Cursor;
+import com.prgrms.offer.common.page.TotalCountCache;
+import com.prgrms.offer.common.page.TotalCountMode;
+import com.prgrms.offer.common.page.TotalCountPage;
+import com.prgrms.offer.common.utils.LongSet;
 import com.prgrms.offer.core.error.exception.BusinessException;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.dto.ArticleBriefViewResponse;
-import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.article.repository.ArticleBrief;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
 import com.prgrms.offer.domain.article.repository.LikeArticleRepository;
 import com.prgrms.offer.domain.article.service.ArticleConverter;
 import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.service.AuthenticatedMembers;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
+import com.prgrms.offer.domain.search.index.ArticleIdBitmap;
+import com.prgrms.offer.domain.search.index.ArticleSearchEngine;
 import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,8 +45,11 @@ public class ArticleSearchService {
     private final ArticleRepository articleRepository;
     private final LikeArticleRepository likeArticleRepository;
     private final MemberRepository memberRepository;
+    private final TotalCountCache totalCountCache;
+    private final ArticleSearchEngine articleSearchEngine;
 
-    private final Integer[] tradeStatusCodeArray = {2, 4};
+    private static final List<Integer> tradeStatusOnSaleOrBooked =
+        List.of(TradeStatus.ON_SALE.getCode(), TradeStatus.RESERVING.getCode());
 
     @Transactional(readOnly = true)
     public Page<ArticleBriefViewResponse> findByTitle(
@@ -39,20 +57,31 @@ public class ArticleSearchService {
         Pageable pageable,
         Optional<JwtAuthentication> authentication) {
 
+        // 제목 역색인에서 순위가 매겨진 id 를 가져와 현재 페이지에 해당하는 게시글만 한 번에 조회 (pageable 의 정렬은 사용하지 않음)
+        List<Long> rankedArticleIds = articleSearchEngine.searchByTitle(title, tradeStatusOnSaleOrBooked);
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedArticleIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedArticleIds.size());
+
+        Page<ArticleBrief> articlePage = new TotalCountPage<>(
+            findAllByIdInOrder(rankedArticleIds.subList(fromIndex, toIndex)),
+            pageable,
+            rankedArticleIds.size(),
+            TotalCountMode.EXACT);
+
         if (authentication.isEmpty()) {
-            Page<ArticleBriefViewResponse> articleBriefViewResponses = articleRepository.findByTitleIgnoreCaseContainsAndTradeStatusCodeIn(
-                title, tradeStatusCodeArray , pageable).map(
-                article -> articleConverter.toArticleBriefViewResponse(article, false)
-            );
-            return articleBriefViewResponses;
+            return articlePage.map(
+                article -> articleConverter.toArticleBriefViewResponse(article, false));
         }
 
-        Member currentMember = memberRepository.findByPrincipal(authentication.get().loginId)
+        Member currentMember = AuthenticatedMembers.find(memberRepository, authentication.get())
             .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        Page<ArticleBriefViewResponse> titles = articleRepository.findByTitleIgnoreCaseContainsAndTradeStatusCodeIn(
-            title, tradeStatusCodeArray, pageable).map(
-            article -> makeBriefViewResponseWithLikeInfo(article, currentMember)
+        LongSet likedArticleIds = findLikedArticleIds(articlePage.getContent(), currentMember);
+
+        Page<ArticleBriefViewResponse> titles = articlePage.map(
+            article -> articleConverter.toArticleBriefViewResponse(article,
+                likedArticleIds.contains(article.getId()))
         );
         return titles;
     }
@@ -62,32 +91,121 @@ public class ArticleSearchService {
         Pageable pageable,
         Optional<JwtAuthentication> authentication) {
 
-        List<Article> articleList = articleRepository.findByOnSaleOrBookedInAndFilter(
-            searchFilterRequest, pageable);
-
-        long numContents = articleRepository.countAllByOnSaleOrBookedInAndFilter(searchFilterRequest);
+        Page<ArticleBrief> articlePage = isNewestFirst(pageable.getSort())
+            ? findByFilterFromSearchEngine(searchFilterRequest, pageable)
+            : findByFilterFromDatabase(searchFilterRequest, pageable);
 
         if (authentication.isEmpty()) {
-            return (Page<ArticleBriefViewResponse>) toPage(articleList.stream().map(
-                article -> articleConverter.toArticleBriefViewResponse(article, false)).collect(
-                Collectors.toList()), pageable, numContents);
+            return articlePage.map(
+                article -> articleConverter.toArticleBriefViewResponse(article, false));
         }
 
         JwtAuthentication jwtAuthentication = authentication.get();
 
-        Member currentMember = memberRepository.findByPrincipal(jwtAuthentication.loginId)
+        Member currentMember = AuthenticatedMembers.find(memberRepository, jwtAuthentication)
+            .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
+
+        LongSet likedArticleIds = findLikedArticleIds(articlePage.getContent(), currentMember);
+
+        return articlePage.map(
+            article -> articleConverter.toArticleBriefViewResponse(article,
+                likedArticleIds.contains(article.getId())));
+    }
+
+    // 무한 스크롤용 cursor 모드 (count 쿼리 없이 cursor 의 id 기준으로 seek)
+    @Transactional(readOnly = true)
+    public Slice<ArticleBriefViewResponse> findByFilterByCursor(
+        SearchFilterRequest searchFilterRequest,
+        Optional<Cursor> cursor,
+        int size,
+        Optional<JwtAuthentication> authentication) {
+
+        // 검색 엔진은 최신 순(id 내림차순)으로 읽으므로 cursor 의 id 이전부터 size + 1개를 가져와 다음 페이지 여부를 판단
+        List<Long> articleIds = articleSearchEngine.searchByFilter(searchFilterRequest, tradeStatusOnSaleOrBooked)
+            .newestFirstBefore(cursor.map(Cursor::getId).orElse(Long.MAX_VALUE), size + 1);
+
+        boolean hasNext = articleIds.size() > size;
+        Slice<ArticleBrief> articleSlice = new SliceImpl<>(
+            findAllByIdInOrder(hasNext ? articleIds.subList(0, size) : articleIds),
+            PageRequest.of(0, size),
+            hasNext);
+
+        if (authentication.isEmpty()) {
+            return articleSlice.map(
+                article -> articleConverter.toArticleBriefViewResponse(article, false));
+        }
+
+        Member currentMember = AuthenticatedMembers.find(memberRepository, authentication.get())
             .orElseThrow(() -> new BusinessException(ResponseMessage.MEMBER_NOT_FOUND));
 
-        return (Page<ArticleBriefViewResponse>) toPage(articleList.stream().map(
-                article -> makeBriefViewResponseWithLikeInfo(article, currentMember))
-            .collect(Collectors.toList()), pageable, numContents);
+        LongSet likedArticleIds = findLikedArticleIds(articleSlice.getContent(), currentMember);
+
+        return articleSlice.map(
+            article -> articleConverter.toArticleBriefViewResponse(article,
+                likedArticleIds.contains(article.getId())));
+    }
+
+    // 카테고리, 거래방식, 가격, 제목 조건을 메모리 검색 엔진에서 bitmap 연산으로 걸러 현재 페이지의 게시글만 조회 (count 쿼리 없음)
+    private Page<ArticleBrief> findByFilterFromSearchEngine(SearchFilterRequest searchFilterRequest, Pageable pageable) {
+        ArticleIdBitmap articleIds = articleSearchEngine.searchByFilter(searchFilterRequest, tradeStatusOnSaleOrBooked);
+
+        return new TotalCountPage<>(
+            findAllByIdInOrder(articleIds.newestFirst(pageable.getOffset(), pageable.getPageSize())),
+            pageable,
+            articleIds.count(),
+            TotalCountMode.EXACT);
+    }
+
+    // 최신 순이 아닌 정렬은 DB 에서 정렬해서 조회
+    private Page<ArticleBrief> findByFilterFromDatabase(SearchFilterRequest searchFilterRequest, Pageable pageable) {
+        Collection<Long> titleMatchedArticleIds = searchFilterRequest.getTitle() == null
+            ? null : articleSearchEngine.searchByTitle(searchFilterRequest.getTitle(), tradeStatusOnSaleOrBooked);
+        if (titleMatchedArticleIds != null && titleMatchedArticleIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<ArticleBrief> articleList = articleRepository.findByOnSaleOrBookedInAndFilter(
+            searchFilterRequest, titleMatchedArticleIds, pageable);
+
+        // 마지막 페이지이면 count 쿼리를 생략하고, 아니면 같은 필터의 count 결과를 잠시 재사용
+        return totalCountCache.toPage(articleList, pageable,
+            searchFilterRequest.toTotalCountCacheKey(),
+            () -> articleRepository.countAllByOnSaleOrBookedInAndFilter(searchFilterRequest, titleMatchedArticleIds));
+    }
+
+    // 정렬이 없거나 createdDate(또는 id) 내림차순이면 id 내림차순과 같은 순서
+    private boolean isNewestFirst(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        Sort.Order order = orders.get(0);
+        return orders.size() == 1 && order.isDescending()
+            && (order.getProperty().equals("createdDate") || order.getProperty().equals("id"));
+    }
+
+    // 목록 조회용 컬럼만 조회한 뒤 검색 엔진이 정한 순서대로 정렬
+    private List<ArticleBrief> findAllByIdInOrder(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ArticleBrief> articleBriefs = articleRepository.findAllBriefsByIdIn(articleIds).stream()
+            .collect(Collectors.toMap(ArticleBrief::getId, Function.identity()));
+
+        return articleIds.stream()
+            .map(articleBriefs::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
     }
 
-    private ArticleBriefViewResponse makeBriefViewResponseWithLikeInfo(Article article,
-        Member currentMember) {
-        boolean isLiked = likeArticleRepository.existsByMemberAndArticle(currentMember, article);
+    private LongSet findLikedArticleIds(List<ArticleBrief> articleBriefs, Member currentMember) {
+        List<Long> articleIds = articleBriefs.stream()
+            .map(ArticleBrief::getId)
+            .collect(Collectors.toList());
 
-        return articleConverter.toArticleBriefViewResponse(article, isLiked);
+        return likeArticleRepository.findLikedArticleIds(currentMember, articleIds);
     }
 
 }
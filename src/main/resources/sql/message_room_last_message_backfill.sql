@@ -0,0 +1,18 @@
+-- 마지막 쪽지 컬럼(last_message_id, last_message_at, last_message_preview) 추가 이전에 만들어진 대화방 채우기
+-- 쪽지함은 last_message_id 가 있는 대화방만 보여주므로 배포 직후 한 번 실행해야 함
+-- 이미 채워진 대화방은 건너뛰므로 여러 번 실행해도 됨
+UPDATE message_room
+SET last_message_id = (SELECT MAX(m.message_id)
+                       FROM message m
+                       WHERE m.message_room_id = message_room.message_room_id)
+WHERE last_message_id IS NULL;
+
+UPDATE message_room
+SET last_message_at      = (SELECT m.created_date
+                            FROM message m
+                            WHERE m.message_id = message_room.last_message_id),
+    last_message_preview = (SELECT SUBSTRING(m.content, 1, 100)
+                            FROM message m
+                            WHERE m.message_id = message_room.last_message_id)
+WHERE last_message_id IS NOT NULL
+  AND last_message_at IS NULL;
@@ -0,0 +1,106 @@
+package com.prgrms.offer.common;
+
+import com.prgrms.offer.core.jwt.JwtAuthentication;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 회원이 게시글 하나에 동시에 요청하는 상황을 재현하는 동시성 테스트의 공통 준비
+ * 요청이 각자의 트랜잭션에서 커밋되어야 하므로 하위 클래스는 @Transactional(propagation = NOT_SUPPORTED) 로 실행하고,
+ * 게시글을 참조하는 행은 하위 클래스의 @AfterEach 에서 먼저 지워야 함 (이 클래스의 @AfterEach 가 나중에 실행됨)
+ */
+public abstract class ConcurrencyTestSupport {
+
+    protected static final int THREAD_COUNT = 16;
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @Autowired
+    protected ArticleRepository articleRepository;
+
+    @Autowired
+    protected MemberRepository memberRepository;
+
+    protected Article article;
+
+    protected List<Member> members;
+
+    private final int memberCount;
+
+    protected ConcurrencyTestSupport(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    @BeforeEach
+    void setUpMembersAndArticle() {
+        members = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .principal("member" + i + "@offer.com")
+                    .nickname("member" + i)
+                    .build()));
+        }
+
+        article = articleRepository.save(Article.builder()
+                .writer(members.get(0))
+                .title("title")
+                .likeCount(0)
+                .viewCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDownMembersAndArticle() {
+        articleRepository.deleteAllInBatch();
+        memberRepository.deleteAll(members);
+    }
+
+    // 모든 작업을 동시에 시작시키고, 작업 순서대로 성공이면 null, 실패면 던진 예외를 반환
+    protected List<Throwable> runConcurrently(List<Callable<?>> tasks) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (Callable<?> task : tasks) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return task.call();
+                }));
+            }
+
+            startLatch.countDown();
+            List<Throwable> results = new ArrayList<>(futures.size());
+            for (Future<?> future : futures) {
+                try {
+                    future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    results.add(null);
+                } catch (ExecutionException e) {
+                    results.add(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected JwtAuthentication authentication(Member member) {
+        return new JwtAuthentication("token", member.getPrincipal());
+    }
+}
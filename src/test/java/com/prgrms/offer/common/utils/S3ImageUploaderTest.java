@@ -0,0 +1,370 @@
+package com.prgrms.offer.common.utils;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class S3ImageUploaderTest {
+
+    private static final String BUCKET = "offer-test";
+    private static final String DIR = "productImage";
+
+    private HttpServer s3;
+    private ExecutorService s3Executor;
+    private LocalS3 localS3;
+    private S3ImageUploader s3ImageUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        localS3 = new LocalS3();
+        s3Executor = Executors.newFixedThreadPool(8);
+        s3 = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        s3.createContext("/", localS3::handle);
+        s3.setExecutor(s3Executor);
+        s3.start();
+
+        AmazonS3Client amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        "http://127.0.0.1:" + s3.getAddress().getPort(), "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("access", "secret")))
+                .build();
+
+        PropertyProvider propertyProvider = mock(PropertyProvider.class);
+        given(propertyProvider.getIMAGE_UPLOAD_THREADS()).willReturn(3);
+        given(propertyProvider.getIMAGE_UPLOAD_QUEUE_SIZE()).willReturn(10);
+
+        s3ImageUploader = new S3ImageUploader(amazonS3Client, propertyProvider);
+        ReflectionTestUtils.setField(s3ImageUploader, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3ImageUploader.shutdown();
+        s3.stop(0);
+        s3Executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 이름의 이미지를 동시에 올려도 각각 다른 key 로 입력 순서대로 업로드된다")
+    void uploadAllInParallelWithUniqueKeys() {
+        localS3.awaitConcurrentPuts(3);
+        List<MultipartFile> images = List.of(
+                streamOnlyImage("a.png", "first"),
+                streamOnlyImage("a.png", "second"),
+                streamOnlyImage("a.png", "third"));
+
+        List<String> imageUrls = s3ImageUploader.uploadAll(images, DIR);
+
+        assertThat(imageUrls).hasSize(3).doesNotHaveDuplicates()
+                .allMatch(url -> url.contains("/" + BUCKET + "/" + DIR + "/") && url.endsWith(".png"));
+        assertThat(imageUrls).extracting(url -> localS3.content(url))
+                .containsExactly("first", "second", "third");
+        // 세 요청이 동시에 도착해야만 stand-in 이 응답하므로, 순차 업로드였다면 여기까지 오지 못함
+        assertThat(localS3.maxConcurrentPuts()).isEqualTo(3);
+        assertThat(localS3.lengthsAnnounced()).isTrue();
+    }
+
+    @Test
+    @DisplayName("하나라도 업로드에 실패하면 이미 올라간 이미지를 지우고 예외를 던진다")
+    void uploadAllRollsBackOnFailure() {
+        MultipartFile broken = new MockMultipartFile("images", "b.png", "image/png", new byte[]{1}) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("broken");
+            }
+        };
+        List<MultipartFile> images = List.of(streamOnlyImage("a.png", "first"), broken, streamOnlyImage("c.png", "third"));
+
+        assertThatThrownBy(() -> s3ImageUploader.uploadAll(images, DIR))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseMessage").isEqualTo(ResponseMessage.FILE_UPLOAD_FAIL);
+        assertThat(localS3.objects).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록용, 상세용 축소 이미지를 원본 옆에 함께 저장한다")
+    void uploadAllWithVariants() throws IOException {
+        MultipartFile image = new MockMultipartFile("images", "photo.png", "image/png", png(2000, 1000));
+
+        String imageUrl = s3ImageUploader.uploadAll(List.of(image), DIR, ImageVariant.LIST, ImageVariant.DETAIL).get(0);
+
+        assertThat(localS3.objects).hasSize(3);
+        assertThat(size(localS3.bytes(ImageVariant.LIST.urlOf(imageUrl)))).containsExactly(320, 160);
+        assertThat(size(localS3.bytes(ImageVariant.DETAIL.urlOf(imageUrl)))).containsExactly(1080, 540);
+        assertThat(size(localS3.bytes(imageUrl))).containsExactly(2000, 1000);
+    }
+
+    @Test
+    @DisplayName("줄일 수 없는 형식이면 원본을 복사해 두어 축소 이미지 url 이 항상 존재한다")
+    void copyOriginalWhenVariantCannotBeEncoded() {
+        MultipartFile image = streamOnlyImage("photo.heic", "heic");
+
+        String imageUrl = s3ImageUploader.uploadAll(List.of(image), DIR, ImageVariant.LIST).get(0);
+
+        assertThat(localS3.content(ImageVariant.LIST.urlOf(imageUrl))).isEqualTo("heic");
+    }
+
+    @Test
+    @DisplayName("헤더의 해상도가 너무 큰 이미지는 디코딩하지 않고 거절하며 올라간 원본도 지운다")
+    void rejectsDecompressionBomb() {
+        MultipartFile image = new MockMultipartFile("images", "bomb.png", "image/png", pngHeaderOnly(100_000, 100_000));
+
+        assertThatThrownBy(() -> s3ImageUploader.uploadAll(List.of(image), DIR, ImageVariant.LIST))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseMessage").isEqualTo(ResponseMessage.IMAGE_PIXEL_LIMIT_EXCEEDED);
+        assertThat(localS3.objects).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목표 크기보다 훨씬 큰 이미지는 subsampling 하여 읽어도 목표 크기로 줄어든다")
+    void subsamplesLargeImage() throws IOException {
+        BufferedImage decoded = ImageResizer.read(new ByteArrayInputStream(png(4000, 2000)), ImageVariant.LIST.getMaxSize()).orElseThrow();
+
+        assertThat(decoded.getWidth()).isLessThan(4000).isGreaterThanOrEqualTo(ImageVariant.LIST.getMaxSize() * 2);
+        assertThat(size(ImageResizer.resize(decoded, ImageVariant.LIST.getMaxSize(), "png"))).containsExactly(320, 160);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation 이 6 인 JPEG 는 시계 방향으로 90도 돌린 뒤 줄인다")
+    void rotatesJpegByExifOrientation() throws IOException {
+        byte[] jpeg = jpegWithOrientation(640, 320, 6);
+        MultipartFile image = new MockMultipartFile("images", "photo.jpg", "image/jpeg", jpeg);
+
+        String imageUrl = s3ImageUploader.uploadAll(List.of(image), DIR, ImageVariant.LIST).get(0);
+        BufferedImage decoded = ImageResizer.read(new ByteArrayInputStream(jpeg), ImageVariant.DETAIL.getMaxSize()).orElseThrow();
+
+        assertThat(size(localS3.bytes(ImageVariant.LIST.urlOf(imageUrl)))).containsExactly(160, 320);
+        assertThat(new int[]{decoded.getWidth(), decoded.getHeight()}).containsExactly(320, 640);
+        // 저장된 이미지의 왼쪽 절반 (빨강) 이 돌린 뒤에는 위쪽 절반이 됨
+        assertThat(new Color(decoded.getRGB(160, 160)).getRed()).isGreaterThan(200);
+        assertThat(new Color(decoded.getRGB(160, 480)).getRed()).isLessThan(50);
+    }
+
+    // 왼쪽 절반이 빨간 JPEG 의 SOI, APP0 (JFIF) 뒤에 Orientation 만 담은 APP1 (EXIF, big endian TIFF) 을 끼워 넣음
+    private byte[] jpegWithOrientation(int width, int height, int orientation) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", encoded);
+        byte[] jpeg = encoded.toByteArray();
+
+        ByteBuffer tiff = ByteBuffer.allocate(26)
+                .put(new byte[]{'M', 'M', 0, 0x2A}).putInt(8)
+                .putShort((short) 1)
+                .putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0)
+                .putInt(0);
+        byte[] exif = ByteBuffer.allocate(6 + tiff.capacity()).put("Exif\0\0".getBytes(StandardCharsets.US_ASCII)).put(tiff.array()).array();
+
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        return ByteBuffer.allocate(jpeg.length + 4 + exif.length)
+                .put(jpeg, 0, app0End)
+                .put((byte) 0xFF).put((byte) 0xE1).putShort((short) (2 + exif.length)).put(exif)
+                .put(jpeg, app0End, jpeg.length - app0End)
+                .array();
+    }
+
+    // IHDR 에 크기만 적힌 PNG (픽셀 데이터 없음), 헤더만 읽고 거절하는지 확인하기 위함
+    private byte[] pngHeaderOnly(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes(StandardCharsets.US_ASCII)).putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'})
+                .putInt(13).put(ihdr.array()).putInt((int) crc.getValue())
+                .array();
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private int[] size(byte[] image) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image));
+        return new int[]{decoded.getWidth(), decoded.getHeight()};
+    }
+
+    // getBytes 로 파일 전체를 복사하면 실패하도록 하여 스트림으로만 올리는지 확인
+    private MultipartFile streamOnlyImage(String fileName, String content) {
+        return new MockMultipartFile("images", fileName, "image/png", content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public byte[] getBytes() {
+                throw new AssertionError("업로드 시 파일 전체를 메모리로 복사하면 안 됨");
+            }
+        };
+    }
+
+    // PUT (copy 포함) / DELETE 만 지원하는 path-style S3 stand-in
+    private static class LocalS3 {
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlightPuts = new AtomicInteger();
+        private final AtomicInteger maxConcurrentPuts = new AtomicInteger();
+        private volatile boolean lengthsAnnounced = true;
+        private volatile CountDownLatch concurrentPuts = new CountDownLatch(0);
+
+        void awaitConcurrentPuts(int count) {
+            concurrentPuts = new CountDownLatch(count);
+        }
+
+        int maxConcurrentPuts() {
+            return maxConcurrentPuts.get();
+        }
+
+        boolean lengthsAnnounced() {
+            return lengthsAnnounced;
+        }
+
+        String content(String url) {
+            return new String(bytes(url), StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes(String url) {
+            return objects.get(url.substring(url.indexOf("/" + BUCKET + "/")));
+        }
+
+        void handle(HttpExchange exchange) throws IOException {
+            String key = exchange.getRequestURI().getPath();
+            switch (exchange.getRequestMethod()) {
+                case "PUT":
+                    put(exchange, key);
+                    break;
+                case "DELETE":
+                    objects.remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                    break;
+                default:
+                    exchange.sendResponseHeaders(405, -1);
+            }
+            exchange.close();
+        }
+
+        private void put(HttpExchange exchange, String key) throws IOException {
+            String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+            if (copySource != null) {
+                copy(exchange, key, URLDecoder.decode(copySource, StandardCharsets.UTF_8));
+                return;
+            }
+
+            maxConcurrentPuts.accumulateAndGet(inFlightPuts.incrementAndGet(), Math::max);
+            try {
+                String decodedLength = exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length");
+                byte[] body = readAll(exchange.getRequestBody());
+                if (decodedLength != null) {
+                    body = decodeAwsChunked(body);
+                } else if (exchange.getRequestHeaders().getFirst("Content-Length") == null) {
+                    lengthsAnnounced = false;
+                }
+                if (decodedLength != null && Integer.parseInt(decodedLength) != body.length) {
+                    lengthsAnnounced = false;
+                }
+
+                concurrentPuts.countDown();
+                concurrentPuts.await(5, TimeUnit.SECONDS);
+
+                objects.put(key, body);
+                exchange.getResponseHeaders().add("ETag", "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                inFlightPuts.decrementAndGet();
+            }
+        }
+
+        private void copy(HttpExchange exchange, String key, String source) throws IOException {
+            byte[] body = objects.get(source.startsWith("/") ? source : "/" + source);
+            objects.put(key, body);
+
+            byte[] result = ("<CopyObjectResult><LastModified>2021-01-01T00:00:00.000Z</LastModified>"
+                    + "<ETag>\"" + DigestUtils.md5DigestAsHex(body) + "\"</ETag></CopyObjectResult>")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, result.length);
+            exchange.getResponseBody().write(result);
+        }
+
+        // <hex size>;chunk-signature=...\r\n<data>\r\n 형태의 청크들을 이어 붙임
+        private byte[] decodeAwsChunked(byte[] body) {
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            int position = 0;
+            while (position < body.length) {
+                int headerEnd = indexOfCrlf(body, position);
+                String header = new String(body, position, headerEnd - position, StandardCharsets.US_ASCII);
+                int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+                if (size == 0) {
+                    break;
+                }
+                decoded.write(body, headerEnd + 2, size);
+                position = headerEnd + 2 + size + 2;
+            }
+            return decoded.toByteArray();
+        }
+
+        private int indexOfCrlf(byte[] body, int from) {
+            for (int i = from; i < body.length - 1; i++) {
+                if (body[i] == '\r' && body[i + 1] == '\n') {
+                    return i;
+                }
+            }
+            return body.length;
+        }
+
+        private byte[] readAll(InputStream inputStream) throws IOException {
+            try (inputStream) {
+                return inputStream.readAllBytes();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.prgrms.offer.core.jwt;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheTest {
+
+    private static final int MAX_SIZE = 3;
+    private static final Function<Jwt.Claims, List<GrantedAuthority>> AUTHORITIES =
+            claims -> List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger verifications = new AtomicInteger();
+    // 토큰별로 검증 결과의 만료 시각 (null 이면 exp 없음)
+    private final Map<String, Long> expiresAtByToken = new HashMap<>();
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(MAX_SIZE, now::get);
+    }
+
+    @Test
+    @DisplayName("exp 전까지는 검증 없이 캐시에서 꺼내고, exp 시각부터는 다시 검증한다")
+    void servesUntilExp() {
+        expiresAtByToken.put("token", 1_000L);
+
+        verify("token");
+        now.set(999L);
+        VerifiedTokenCache.VerifiedToken cached = verify("token");
+
+        assertThat(verifications).hasValue(1);
+        assertThat(cached.getClaims().loginId).isEqualTo("token");
+        assertThat(verifiedTokenCache.getHitCount()).isEqualTo(1);
+
+        now.set(1_000L);
+        verify("token");
+
+        assertThat(verifications).hasValue(2);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐싱하지 않고 매번 다시 검증한다")
+    void doesNotCacheFailedVerification() {
+        Function<String, Jwt.Claims> failing = token -> {
+            verifications.incrementAndGet();
+            throw new JWTVerificationException("invalid signature");
+        };
+
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.verify("forged", failing, AUTHORITIES));
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.verify("forged", failing, AUTHORITIES));
+
+        assertThat(verifications).hasValue(2);
+        assertThat(verifiedTokenCache.size()).isZero();
+        assertThat(verifiedTokenCache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("exp 가 없는 토큰은 캐싱하지 않는다")
+    void doesNotCacheTokenWithoutExp() {
+        expiresAtByToken.put("token", null);
+
+        verify("token");
+        verify("token");
+
+        assertThat(verifications).hasValue(2);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료된 항목부터 지우고, 그래도 가득 차 있으면 모두 비운 뒤 넣는다")
+    void keepsSizeBound() {
+        expiresAtByToken.put("a", 100L);
+        expiresAtByToken.put("b", 1_000L);
+        expiresAtByToken.put("c", 1_000L);
+        expiresAtByToken.put("d", 1_000L);
+        expiresAtByToken.put("e", 1_000L);
+        verify("a");
+        verify("b");
+        verify("c");
+        assertThat(verifiedTokenCache.size()).isEqualTo(MAX_SIZE);
+
+        // 만료된 a 만 지우고 d 를 넣음
+        now.set(200L);
+        verify("d");
+        assertThat(verifiedTokenCache.size()).isEqualTo(MAX_SIZE);
+        verify("b");
+        assertThat(verifications).hasValue(4);
+
+        // 만료된 항목이 없으면 모두 비우고 e 만 남김
+        verify("e");
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+        verify("e");
+        verify("b");
+        assertThat(verifications).hasValue(6);
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+    }
+
+    private VerifiedTokenCache.VerifiedToken verify(String token) {
+        return verifiedTokenCache.verify(token, this::claimsOf, AUTHORITIES);
+    }
+
+    private Jwt.Claims claimsOf(String token) {
+        verifications.incrementAndGet();
+        Jwt.Claims claims = Jwt.Claims.from(token, new String[]{"ROLE_USER"});
+        Long expiresAt = expiresAtByToken.get(token);
+        if (expiresAt != null) {
+            claims.exp = new Date(expiresAt);
+        }
+        return claims;
+    }
+}
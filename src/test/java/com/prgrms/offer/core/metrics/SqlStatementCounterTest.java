@@ -0,0 +1,111 @@
+package com.prgrms.offer.core.metrics;
+
+import com.prgrms.offer.core.config.MetricsConfig;
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.core.jwt.VerifiedTokenCache;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import com.prgrms.offer.domain.article.service.ArticleDetailCache;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDSLConfig.class, MetricsConfig.class, SqlStatementCounter.class})
+class SqlStatementCounterTest {
+
+    private static final int WRITER_COUNT = 3;
+
+    @MockBean
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @MockBean
+    private ArticleDetailCache articleDetailCache;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            Member writer = memberRepository.save(Member.builder()
+                    .principal("writer" + i + "@offer.com")
+                    .nickname("writer" + i)
+                    .build());
+            article = articleRepository.save(Article.builder()
+                    .writer(writer)
+                    .title("title" + i)
+                    .likeCount(0)
+                    .viewCount(0)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("목록 조회 후 작성자를 하나씩 읽으면 작성자 수만큼 SQL 문이 더 실행된 것으로 센다")
+    void countsLazyLoadingPerRow() {
+        sqlStatementCounter.start();
+        articleRepository.findAll().forEach(a -> a.getWriter().getNickname());
+        int statements = sqlStatementCounter.stop();
+
+        assertThat(statements).isEqualTo(1 + WRITER_COUNT);
+    }
+
+    @Test
+    @DisplayName("작성자를 join fetch 로 함께 읽으면 SQL 문 하나로 센다")
+    void countsJoinFetchAsOneStatement() {
+        sqlStatementCounter.start();
+        articleRepository.findWithWriterById(article.getId()).orElseThrow().getWriter().getNickname();
+        int statements = sqlStatementCounter.stop();
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Hibernate 를 거치지 않고 JdbcTemplate 으로 실행한 SQL 문도 센다 (batch 는 한 번으로 셈)")
+    void countsJdbcTemplateStatements() {
+        sqlStatementCounter.start();
+        articleRepository.addViewCounts(Map.of(article.getId(), 1L, article.getId() - 1, 1L));
+        jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        int statements = sqlStatementCounter.stop();
+
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("start 하지 않은 스레드의 SQL 문은 세지 않는다")
+    void ignoresStatementsOutsideRequest() {
+        articleRepository.findAll();
+
+        assertThat(sqlStatementCounter.stop()).isZero();
+    }
+}
@@ -0,0 +1,433 @@
+package com.prgrms.offer.domain;
+
+import com.prgrms.offer.common.page.Cursor;
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.entity.LikeArticle;
+import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import com.prgrms.offer.domain.article.repository.CustomizedArticleRepository;
+import com.prgrms.offer.domain.article.repository.LikeArticleRepository;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import com.prgrms.offer.domain.message.model.entity.Message;
+import com.prgrms.offer.domain.message.model.entity.MessageRoom;
+import com.prgrms.offer.domain.message.repository.MessageRepository;
+import com.prgrms.offer.domain.message.repository.MessageRoomRepository;
+import com.prgrms.offer.domain.offer.model.entity.Offer;
+import com.prgrms.offer.domain.offer.repository.OfferRepository;
+import com.prgrms.offer.domain.review.model.entity.Review;
+import com.prgrms.offer.domain.review.repository.ReviewRepository;
+import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 각 repository 의 모든 쿼리 메서드가 실행하는 SQL 을 수집해 EXPLAIN 으로 실행 계획을 확인
+ * 인덱스 없이 테이블(또는 인덱스) 전체를 읽는 쿼리가 있으면 실패
+ * repository 에 메서드를 추가하면 이 테스트에도 실행 case 를 추가해야 함
+ */
+@DataJpaTest
+@Import({QueryDSLConfig.class, RepositoryQueryPlanTest.SqlCaptureConfig.class})
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            ArticleRepository.class,
+            CustomizedArticleRepository.class,
+            OfferRepository.class,
+            MessageRepository.class,
+            MessageRoomRepository.class,
+            ReviewRepository.class,
+            LikeArticleRepository.class,
+            MemberRepository.class
+    );
+
+    private static final int MEMBER_COUNT = 200;
+    private static final int ARTICLE_COUNT = 1_000;
+    private static final int OFFER_COUNT = 2_000;
+    private static final int LIKE_ARTICLE_COUNT = 2_000;
+    private static final int REVIEW_COUNT = 500;
+    private static final int MESSAGE_ROOM_COUNT = 300;
+    private static final int MESSAGE_COUNT = 1_500;
+
+    // 조건이 없는 테이블 스캔, 또는 조건 없이 인덱스 전체를 읽는 경우 (direct lookup 은 제외)
+    private static final Pattern FULL_SCAN = Pattern.compile(
+            "/\\* PUBLIC\\.([A-Z0-9_]+)(\\.tableScan)? \\*/(?!\\s*(GROUP BY \\(\\)\\s*)?/\\* direct lookup)");
+    // 정렬된 인덱스를 LIMIT 만큼만 읽고 멈추는 경우
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    private static final List<String> capturedSql = new CopyOnWriteArrayList<>();
+    private static volatile boolean capturing;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MessageRoomRepository messageRoomRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private LikeArticleRepository likeArticleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Member> members;
+    private List<Article> articles;
+    private List<Offer> offers;
+    private List<MessageRoom> messageRooms;
+
+    @BeforeEach
+    void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(Member.builder()
+                    .principal("member" + i + "@offer.com")
+                    .nickname("member" + i)
+                    .provider(i % 2 == 0 ? "kakao" : null)
+                    .providerId(i % 2 == 0 ? String.valueOf(100_000 + i) : null)
+                    .offerLevel(1)
+                    .build());
+        }
+        memberRepository.saveAll(members);
+
+        articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articles.add(Article.builder()
+                    .writer(member(i))
+                    .title("title" + i)
+                    .content("content" + i)
+                    .categoryCode(i % 10 + 1)
+                    .tradeMethodCode(i % 3 + 1)
+                    .tradeStatusCode(List.of(2, 4, 8).get(i % 3))
+                    .price(i * 1_000)
+                    .likeCount(0)
+                    .viewCount(0)
+                    .createdDate(LocalDateTime.now().minusMinutes(i))
+                    .build());
+        }
+        articleRepository.saveAll(articles);
+
+        offers = new ArrayList<>();
+        for (int i = 0; i < OFFER_COUNT; i++) {
+            offers.add(Offer.builder()
+                    .article(article(i))
+                    .offerer(member(i * 7))
+                    .price(i)
+                    .isSelected(i < ARTICLE_COUNT && i % 10 == 0)
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        }
+        offerRepository.saveAll(offers);
+
+        List<LikeArticle> likeArticles = new ArrayList<>();
+        for (int i = 0; i < LIKE_ARTICLE_COUNT; i++) {
+            likeArticles.add(new LikeArticle(member(i), article(i * 13 + i / ARTICLE_COUNT)));
+        }
+        likeArticleRepository.saveAll(likeArticles);
+
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            reviews.add(Review.builder()
+                    .reviewer(member(i))
+                    .reviewee(member(i + 1))
+                    .article(article(i))
+                    .score(1)
+                    .isRevieweeBuyer(i % 2 == 0)
+                    .createdDate(LocalDateTime.now())
+                    .build());
+        }
+        reviewRepository.saveAll(reviews);
+
+        messageRooms = new ArrayList<>();
+        for (int i = 0; i < MESSAGE_ROOM_COUNT; i++) {
+            messageRooms.add(messageRoomRepository.save(
+                    new MessageRoom(member(i), member(i + 1), article(i), offers.get(i))));
+        }
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messageRoomRepository.updateLastMessage(messageRepository.save(Message.builder()
+                    .messageRoom(messageRooms.get(i % MESSAGE_ROOM_COUNT))
+                    .content("message" + i)
+                    .isSendMessage(i % 2 == 0)
+                    .createdDate(LocalDateTime.now())
+                    .build()));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("repository 의 모든 쿼리 메서드는 실행 계획 확인 case 를 가져야 한다")
+    void everyRepositoryMethodHasCase() {
+        Set<String> caseNames = queryCases().keySet().stream()
+                .map(name -> name.split(" ")[0])
+                .collect(Collectors.toSet());
+
+        List<String> uncovered = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .filter(methodName -> !caseNames.contains(methodName))
+                .distinct()
+                .collect(Collectors.toList());
+
+        assertThat(uncovered).as("실행 계획 확인 case 가 없는 repository 메서드").isEmpty();
+    }
+
+    @Test
+    @DisplayName("repository 의 모든 쿼리는 인덱스를 사용해야 한다 (full scan 금지)")
+    void everyQueryUsesIndex() {
+        List<String> violations = new ArrayList<>();
+
+        queryCases().forEach((name, queryCase) -> {
+            for (String sql : capture(name, queryCase)) {
+                String plan = explain(sql);
+                Matcher matcher = FULL_SCAN.matcher(plan);
+                if (matcher.find() && (matcher.group(2) != null || !plan.contains(INDEX_SORTED))) {
+                    violations.add(name + " -> " + matcher.group(1) + "\n    " + sql + "\n    " + plan);
+                }
+            }
+        });
+
+        assertThat(violations).as("full scan 이 발생하는 쿼리").isEmpty();
+    }
+
+    private Map<String, Runnable> queryCases() {
+        Member member = member(3);
+        Article article = article(3);
+        MessageRoom messageRoom = messageRooms.get(3);
+        PageRequest newestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdDate"));
+        SearchFilterRequest filter = SearchFilterRequest.builder().categoryCode(3).minPrice(1_000).maxPrice(50_000).build();
+
+        Map<String, Runnable> cases = new LinkedHashMap<>();
+
+        cases.put("ArticleRepository.findById", () -> articleRepository.findById(article.getId()));
+        cases.put("ArticleRepository.findAll", () -> articleRepository.findAll(newestFirst));
+        cases.put("ArticleRepository.save", () -> articleRepository.save(Article.builder().writer(member).title("new").likeCount(0).viewCount(0).build()));
+        cases.put("ArticleRepository.existsById", () -> articleRepository.existsById(article.getId()));
+        cases.put("ArticleRepository.findWithWriterById", () -> articleRepository.findWithWriterById(article.getId()));
+        cases.put("ArticleRepository.countArticlesByWriter", () -> articleRepository.countArticlesByWriter(member));
+        cases.put("ArticleRepository.increaseLikeCount", () -> articleRepository.increaseLikeCount(article.getId()));
+        cases.put("ArticleRepository.decreaseLikeCount", () -> articleRepository.decreaseLikeCount(article.getId()));
+        cases.put("ArticleRepository.findLikedSellingArticleByMember", () -> articleRepository.findLikedSellingArticleByMember(member.getId(), newestFirst));
+        cases.put("ArticleRepository.findLikedCompletedArticleByMember", () -> articleRepository.findLikedCompletedArticleByMember(member.getId(), newestFirst));
+        cases.put("ArticleRepository.findAllBoughtByOfferer", () -> articleRepository.findAllBoughtByOfferer(member, PageRequest.of(0, 20)));
+        cases.put("ArticleRepository.findAllBriefsByIdIn", () -> articleRepository.findAllBriefsByIdIn(List.of(article(1).getId(), article(2).getId())));
+        cases.put("ArticleRepository.findAllByOffererAndTradeStatusCode", () -> articleRepository.findAllByOffererAndTradeStatusCode(member, 8, PageRequest.of(0, 20)));
+        cases.put("ArticleRepository.findAllByOffererAndTradeInProgress", () -> articleRepository.findAllByOffererAndTradeInProgress(member, PageRequest.of(0, 20)));
+        cases.put("ArticleRepository.findSearchDocumentsAfter", () -> articleRepository.findSearchDocumentsAfter(article.getId(), PageRequest.of(0, 100)));
+
+        cases.put("CustomizedArticleRepository.findByOnSaleOrBookedInAndFilter", () -> articleRepository.findByOnSaleOrBookedInAndFilter(filter, null, PageRequest.of(0, 20, Sort.by("price"))));
+        cases.put("CustomizedArticleRepository.countAllByOnSaleOrBookedInAndFilter", () -> articleRepository.countAllByOnSaleOrBookedInAndFilter(filter, null));
+        cases.put("CustomizedArticleRepository.addViewCounts", () -> articleRepository.addViewCounts(Map.of(article.getId(), 3L)));
+        cases.put("CustomizedArticleRepository.deleteWithDetachingReferences", () -> articleRepository.deleteWithDetachingReferences(article(500)));
+        cases.put("CustomizedArticleRepository.findAllBriefs", () -> articleRepository.findAllBriefs(null, null, null, newestFirst));
+        cases.put("CustomizedArticleRepository.findAllBriefs (category)", () -> articleRepository.findAllBriefs(3, null, null, newestFirst));
+        cases.put("CustomizedArticleRepository.findAllBriefs (writer, trade status)", () -> articleRepository.findAllBriefs(null, member.getId(), 8, newestFirst));
+        cases.put("CustomizedArticleRepository.findAllBriefs (trade in progress)", () -> articleRepository.findAllBriefs(null, null, 4, newestFirst));
+        cases.put("CustomizedArticleRepository.countAllBriefs", () -> articleRepository.countAllBriefs(null, member.getId(), null));
+        cases.put("CustomizedArticleRepository.countAllBriefs (category)", () -> articleRepository.countAllBriefs(3, null, null));
+        cases.put("CustomizedArticleRepository.findAllBriefsByCursor", () -> articleRepository.findAllBriefsByCursor(null, 20, null, null, null));
+        cases.put("CustomizedArticleRepository.findAllBriefsByCursor (cursor, category)", () -> articleRepository.findAllBriefsByCursor(
+                Cursor.of(LocalDateTime.now().minusMinutes(100), article(100).getId()), 20, 3, null, null));
+
+        cases.put("OfferRepository.save", () -> offerRepository.save(Offer.builder().article(article).offerer(member).price(1).isSelected(false).build()));
+        cases.put("OfferRepository.countByOffererIdAndArticleId", () -> offerRepository.countByOffererIdAndArticleId(member.getId(), article.getId()));
+        cases.put("OfferRepository.findAllByArticleId", () -> offerRepository.findAllByArticleId(PageRequest.of(0, 20), article.getId()));
+        cases.put("OfferRepository.existsByArticleAndIsSelected", () -> offerRepository.existsByArticleAndIsSelected(article, true));
+        cases.put("OfferRepository.findByArticleAndIsSelected", () -> offerRepository.findByArticleAndIsSelected(article, true));
+        cases.put("OfferRepository.countOffersByOfferer", () -> offerRepository.countOffersByOfferer(member));
+        cases.put("OfferRepository.findPricesByOffererIdAndArticleId", () -> offerRepository.findPricesByOffererIdAndArticleId(member.getId(), article.getId()));
+
+        cases.put("MessageRepository.save", () -> messageRepository.save(Message.builder().messageRoom(messageRoom).content("new").build()));
+        cases.put("MessageRepository.findByMessageRoomOrderByMessageIdAsc", () -> messageRepository.findByMessageRoomOrderByMessageIdAsc(messageRoom, PageRequest.of(0, 20)));
+        cases.put("MessageRepository.countAllByMessageRoom", () -> messageRepository.countAllByMessageRoom(messageRoom));
+
+        cases.put("MessageRoomRepository.findMessageBoxByMemberId", () -> messageRoomRepository.findMessageBoxByMemberId(member.getId(), PageRequest.of(0, 20)));
+        cases.put("MessageRoomRepository.updateLastMessage", () -> messageRoomRepository.updateLastMessage(messageRoom.getMessageRoomId(), Long.MAX_VALUE, LocalDateTime.now(), "new"));
+        cases.put("MessageRoomRepository.save", () -> messageRoomRepository.save(new MessageRoom(member, member(5), article(7), null)));
+        cases.put("MessageRoomRepository.findByMemberAndMessagePartnerAndArticle", () -> messageRoomRepository.findByMemberAndMessagePartnerAndArticle(member, member(4), article));
+        cases.put("MessageRoomRepository.findById", () -> messageRoomRepository.findById(messageRoom.getMessageRoomId().longValue()));
+        cases.put("MessageRoomRepository.findByMemberAndOffer", () -> messageRoomRepository.findByMemberAndOffer(member, offers.get(3)));
+        cases.put("MessageRoomRepository.countMessageRoomByMember", () -> messageRoomRepository.countMessageRoomByMember(member));
+
+        cases.put("ReviewRepository.save", () -> reviewRepository.save(Review.builder().reviewer(member).reviewee(member(4)).article(article(7)).score(1).build()));
+        cases.put("ReviewRepository.existsByReviewerAndArticle", () -> reviewRepository.existsByReviewerAndArticle(member, article));
+        cases.put("ReviewRepository.findAllByRevieweeIdAndIsRevieweeBuyer", () -> reviewRepository.findAllByRevieweeIdAndIsRevieweeBuyer(PageRequest.of(0, 20), member.getId(), true));
+        cases.put("ReviewRepository.findByReviewerAndArticle", () -> reviewRepository.findByReviewerAndArticle(member, article));
+        cases.put("ReviewRepository.countReviewsByReviewee", () -> reviewRepository.countReviewsByReviewee(member));
+
+        cases.put("LikeArticleRepository.deleteByMemberAndArticleIdInBulk", () -> likeArticleRepository.deleteByMemberAndArticleIdInBulk(member, article.getId()));
+        cases.put("LikeArticleRepository.countLikeArticlesByMember", () -> likeArticleRepository.countLikeArticlesByMember(member));
+        cases.put("LikeArticleRepository.existsByMemberAndArticleId", () -> likeArticleRepository.existsByMemberAndArticleId(member, article.getId()));
+        cases.put("LikeArticleRepository.findArticleIdsByMemberAndArticleIdIn", () -> likeArticleRepository.findArticleIdsByMemberAndArticleIdIn(member, List.of(article.getId())));
+        cases.put("LikeArticleRepository.findLikedArticleIds", () -> likeArticleRepository.findLikedArticleIds(member, List.of(article.getId())));
+
+        cases.put("MemberRepository.findByPrincipal", () -> memberRepository.findByPrincipal(member.getPrincipal()));
+        cases.put("MemberRepository.findByProviderAndProviderId", () -> memberRepository.findByProviderAndProviderId("kakao", "100004"));
+        cases.put("MemberRepository.findByProviderId", () -> memberRepository.findByProviderId("100004"));
+
+        return cases;
+    }
+
+    private List<String> capture(String name, Runnable queryCase) {
+        capturedSql.clear();
+        capturing = true;
+        try {
+            queryCase.run();
+            entityManager.flush();
+        } catch (RuntimeException e) {
+            throw new AssertionError(name + " 실행 실패", e);
+        } finally {
+            capturing = false;
+            entityManager.clear();
+        }
+
+        return capturedSql.stream()
+                .filter(sql -> sql.matches("(?is)\\s*(select|update|delete)\\b.*"))
+                .collect(Collectors.toList());
+    }
+
+    // 바인딩 값이 없어도 실행 계획은 세울 수 있으므로 파라미터는 모두 null 로 바인딩
+    private String explain(String sql) {
+        Object[] params = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, params).stream()
+                .map(row -> String.valueOf(row.values().iterator().next()))
+                .collect(Collectors.joining(" "))
+                .replaceAll("\\s+", " ");
+    }
+
+    private Member member(int index) {
+        return members.get(index % MEMBER_COUNT);
+    }
+
+    private Article article(int index) {
+        return articles.get(index % ARTICLE_COUNT);
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        // 실행되는 모든 SQL(JPA, Querydsl, JdbcTemplate) 을 connection 단에서 수집
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource && !(bean instanceof SqlCapturingDataSource)) {
+                        return new SqlCapturingDataSource((DataSource) bean);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class SqlCapturingDataSource extends DelegatingDataSource {
+
+        SqlCapturingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+
+        private Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (capturing && isStatementPreparation(method) && args != null && args[0] instanceof String) {
+                            capturedSql.add((String) args[0]);
+                        }
+                        Object result = invoke(method, connection, args);
+                        return method.getName().equals("createStatement") ? capturing((Statement) result) : result;
+                    });
+        }
+
+        // Statement 는 실행 (또는 batch 추가) 시점에 SQL 이 전달됨
+        private Statement capturing(Statement statement) {
+            return (Statement) Proxy.newProxyInstance(
+                    Statement.class.getClassLoader(),
+                    new Class<?>[]{Statement.class},
+                    (proxy, method, args) -> {
+                        if (capturing && isStatementExecution(method) && args != null && args[0] instanceof String) {
+                            capturedSql.add((String) args[0]);
+                        }
+                        return invoke(method, statement, args);
+                    });
+        }
+
+        private Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private boolean isStatementPreparation(Method method) {
+            return method.getName().equals("prepareStatement") || method.getName().equals("prepareCall");
+        }
+
+        private boolean isStatementExecution(Method method) {
+            return method.getName().equals("addBatch") || method.getName().startsWith("execute");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.prgrms.offer.domain.article.repository;
+
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.core.jwt.JwtAuthentication;
+import com.prgrms.offer.domain.article.controller.ArticleController;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.entity.LikeArticle;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.prgrms.offer.domain.article.model.entity.QArticle.article;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회를 ArticleBrief projection 으로 하면 Article 엔티티 조회와 같은 게시글을
+ * 영속성 컨텍스트에 올리지 않고 읽는지 확인
+ */
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+class ArticleBriefProjectionTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ARTICLE_COUNT = PAGE_SIZE * 3;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private LikeArticleRepository likeArticleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Article> articles;
+
+    @BeforeEach
+    void setUp() {
+        articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            articles.add(Article.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .mainImageUrl("https://offer.com/images/" + i + ".png")
+                    .tradeArea("서울시 강남구")
+                    .categoryCode(i % 5 + 1)
+                    .tradeMethodCode(2)
+                    .tradeStatusCode(i % 3 == 0 ? 8 : 4)
+                    .price(i * 100)
+                    .likeCount(0)
+                    .viewCount(0)
+                    .build());
+        }
+        articleRepository.saveAll(articles);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("brief projection 은 엔티티 조회와 같은 순서의 게시글을 영속성 컨텍스트에 올리지 않고 조회한다")
+    void briefProjectionVersusEntity() {
+        List<Long> entityPage = jpaQueryFactory.selectFrom(article)
+                .orderBy(article.createdDate.desc(), article.id.desc())
+                .offset(PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .fetch().stream()
+                .map(Article::getId)
+                .collect(Collectors.toList());
+        int managedByEntityPage = managedEntityCount();
+        entityManager.clear();
+
+        List<Long> briefPage = articleRepository.findAllBriefs(null, null, null,
+                        PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdDate")))
+                .stream()
+                .map(ArticleBrief::getId)
+                .collect(Collectors.toList());
+        int managedByBriefPage = managedEntityCount();
+
+        assertThat(briefPage).hasSize(PAGE_SIZE).isEqualTo(entityPage);
+        assertThat(managedByEntityPage).isEqualTo(PAGE_SIZE);
+        assertThat(managedByBriefPage).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 projection 은 컨트롤러의 기본 정렬 (@PageableDefault) 그대로 조회할 수 있다")
+    void likedArticlesWithControllerDefaultSort() throws Exception {
+        Member member = memberRepository.save(Member.builder().principal("liker@offer.com").nickname("liker").build());
+        articles.forEach(liked -> likeArticleRepository.save(new LikeArticle(member, liked)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Pageable pageable = likeArticlesDefaultPageable();
+        Page<ArticleBrief> selling = articleRepository.findLikedSellingArticleByMember(member.getId(), pageable);
+        Page<ArticleBrief> completed = articleRepository.findLikedCompletedArticleByMember(member.getId(), pageable);
+
+        assertThat(selling.getTotalElements() + completed.getTotalElements()).isEqualTo(ARTICLE_COUNT);
+        assertThat(selling.getContent()).hasSize(PAGE_SIZE);
+        assertThat(pageable.getSort().getOrderFor("createdDate")).isNotNull();
+    }
+
+    // 요청에 page, sort 가 없을 때 ArticleController.getLikeArticles 가 받는 Pageable
+    private Pageable likeArticlesDefaultPageable() throws Exception {
+        MethodParameter parameter = new MethodParameter(ArticleController.class.getMethod(
+                "getLikeArticles", Integer.class, Pageable.class, JwtAuthentication.class), 1);
+
+        return new PageableHandlerMethodArgumentResolver()
+                .resolveArgument(parameter, null, new ServletWebRequest(new MockHttpServletRequest()), null);
+    }
+
+    private int managedEntityCount() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+}
@@ -0,0 +1,135 @@
+package com.prgrms.offer.domain.article.repository;
+
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.entity.LikeArticle;
+import com.prgrms.offer.domain.article.model.entity.ProductImage;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.message.model.entity.Message;
+import com.prgrms.offer.domain.message.model.entity.MessageRoom;
+import com.prgrms.offer.domain.offer.model.entity.Offer;
+import com.prgrms.offer.domain.review.model.entity.Review;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 삭제 시 게시글을 참조하는 행의 FK 를 끊고 게시글만 지우며,
+ * 영속성 컨텍스트 전체를 비우지 않고 삭제한 게시글만 detach 하는지 확인
+ */
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+class ArticleDeleteTest {
+
+    private static final int ARTICLE_COUNT = 2;
+    private static final int MEMBER_COUNT = 4;
+    private static final int OFFERS_PER_ARTICLE = 3;
+    private static final int MESSAGES_PER_ROOM = 2;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> articleIds;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = Member.builder().principal("member" + i + "@offer.com").nickname("member" + i).offerLevel(1).build();
+            entityManager.persist(member);
+            members.add(member);
+        }
+
+        articleIds = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            Article article = Article.builder()
+                    .writer(members.get(i))
+                    .title("title" + i)
+                    .content("content" + i)
+                    .tradeStatusCode(2)
+                    .likeCount(1)
+                    .viewCount(0)
+                    .createdDate(LocalDateTime.now())
+                    .build();
+            entityManager.persist(article);
+            articleIds.add(article.getId());
+
+            List<Offer> offers = new ArrayList<>();
+            for (int j = 0; j < OFFERS_PER_ARTICLE; j++) {
+                Offer offer = Offer.builder().article(article).offerer(members.get(j))
+                        .price(j).isSelected(false).createdDate(LocalDateTime.now()).build();
+                entityManager.persist(offer);
+                offers.add(offer);
+            }
+
+            MessageRoom messageRoom = new MessageRoom(members.get(2), members.get(3), article, offers.get(0));
+            entityManager.persist(messageRoom);
+            for (int k = 0; k < MESSAGES_PER_ROOM; k++) {
+                entityManager.persist(Message.builder().messageRoom(messageRoom).content("message" + k)
+                        .isSendMessage(k % 2 == 0).createdDate(LocalDateTime.now()).build());
+            }
+
+            entityManager.persist(new LikeArticle(members.get(1), article));
+            entityManager.persist(new ProductImage("https://offer.com/images/" + i + ".png", article));
+            entityManager.persist(Review.builder().reviewer(members.get(0)).reviewee(members.get(1))
+                    .article(article).score(1).isRevieweeBuyer(true).createdDate(LocalDateTime.now()).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("게시글을 참조하는 행은 남기고 참조만 끊은 뒤 게시글을 삭제한다")
+    void detachesReferencesAndDeletesArticle() {
+        Long deletedId = articleIds.get(0);
+        Long remainingId = articleIds.get(1);
+
+        articleRepository.deleteWithDetachingReferences(articleRepository.findById(deletedId).orElseThrow());
+        entityManager.clear();
+
+        assertThat(articleRepository.findById(deletedId)).isEmpty();
+        assertThat(articleRepository.findById(remainingId)).isPresent();
+        for (String entityName : List.of("Offer", "MessageRoom", "LikeArticle", "ProductImage", "Review")) {
+            assertThat(countReferencing(entityName, deletedId)).as(entityName).isZero();
+            assertThat(countReferencing(entityName, remainingId)).as(entityName).isPositive();
+        }
+        assertThat(count("Offer")).isEqualTo((long) OFFERS_PER_ARTICLE * ARTICLE_COUNT);
+        assertThat(count("Message")).isEqualTo((long) MESSAGES_PER_ROOM * ARTICLE_COUNT);
+    }
+
+    @Test
+    @DisplayName("삭제한 게시글만 detach 하고 영속성 컨텍스트의 다른 엔티티는 그대로 관리한다")
+    void detachesOnlyDeletedArticle() {
+        Article deleted = articleRepository.findById(articleIds.get(0)).orElseThrow();
+        Article remaining = articleRepository.findById(articleIds.get(1)).orElseThrow();
+
+        articleRepository.deleteWithDetachingReferences(deleted);
+
+        assertThat(entityManager.contains(deleted)).isFalse();
+        assertThat(entityManager.contains(remaining)).isTrue();
+    }
+
+    private long countReferencing(String entityName, Long articleId) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entityName + " e WHERE e.article.id = :articleId", Long.class)
+                .setParameter("articleId", articleId)
+                .getSingleResult();
+    }
+
+    private long count(String entityName) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entityName + " e", Long.class).getSingleResult();
+    }
+}
@@ -0,0 +1,88 @@
+package com.prgrms.offer.domain.article.repository;
+
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.domain.article.model.entity.Article;
+import com.prgrms.offer.domain.article.model.value.TradeStatus;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import com.prgrms.offer.domain.search.model.dto.SearchFilterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+class CustomizedArticleRepositoryTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Article applePhone;
+    private Article applePie;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = memberRepository.save(Member.builder().principal("writer@offer.com").nickname("writer").build());
+        applePhone = saveArticle(writer, "Apple phone");
+        applePie = saveArticle(writer, "apple pie");
+        saveArticle(writer, "banana");
+    }
+
+    @Test
+    @DisplayName("제목 후보 id 가 적으면 후보 id 로만 거른다")
+    void filtersByTitleMatchedArticleIds() {
+        SearchFilterRequest filter = SearchFilterRequest.builder().title("apple").build();
+
+        List<Long> found = findIds(filter, List.of(applePhone.getId()));
+
+        assertThat(found).containsExactly(applePhone.getId());
+        assertThat(articleRepository.countAllByOnSaleOrBookedInAndFilter(filter, List.of(applePhone.getId()))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제목 후보 id 가 상한을 넘으면 IN 절 대신 제목 like 조건으로 거른다")
+    void fallsBackToLikeAboveCap() {
+        SearchFilterRequest filter = SearchFilterRequest.builder().title("apple").build();
+        List<Long> candidates = new ArrayList<>(List.of(applePhone.getId(), applePie.getId()));
+        for (long id = -1; candidates.size() <= CustomizedArticleRepositoryImpl.MAX_TITLE_MATCHED_ARTICLE_IDS; id--) {
+            candidates.add(id);
+        }
+
+        List<Long> found = findIds(filter, candidates);
+
+        assertThat(found).containsExactlyInAnyOrder(applePhone.getId(), applePie.getId());
+        assertThat(articleRepository.countAllByOnSaleOrBookedInAndFilter(filter, candidates)).isEqualTo(2);
+    }
+
+    private List<Long> findIds(SearchFilterRequest filter, List<Long> titleMatchedArticleIds) {
+        return articleRepository.findByOnSaleOrBookedInAndFilter(filter, titleMatchedArticleIds, PageRequest.of(0, 20, Sort.by("price")))
+                .stream()
+                .map(ArticleBrief::getId)
+                .collect(Collectors.toList());
+    }
+
+    private Article saveArticle(Member writer, String title) {
+        return articleRepository.save(Article.builder()
+                .writer(writer)
+                .title(title)
+                .price(1_000)
+                .tradeStatusCode(TradeStatus.ON_SALE.getCode())
+                .likeCount(0)
+                .viewCount(0)
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package com.prgrms.offer.domain.article.service;
+
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.domain.article.model.dto.ArticleDetailResponse.ArticleDto;
+import com.prgrms.offer.domain.article.model.dto.ArticleDetailResponse.AuthorDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ArticleDetailCacheTest {
+
+    private static final long ARTICLE_ID = 1L;
+    private static final long OTHER_ARTICLE_ID = 2L;
+    private static final long WRITER_ID = 10L;
+
+    private ArticleDetailCache articleDetailCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        PropertyProvider propertyProvider = mock(PropertyProvider.class);
+        given(propertyProvider.getARTICLE_DETAIL_CACHE_MAX_BYTES()).willReturn(1_000_000L);
+        articleDetailCache = new ArticleDetailCache(propertyProvider);
+    }
+
+    @Test
+    @DisplayName("조회수 반영은 캐시를 비우지 않고 캐시된 조회수에 증가분을 더한다")
+    void applyViewCountsKeepsCachedDetail() {
+        articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 10));
+
+        articleDetailCache.applyViewCounts(Map.of(ARTICLE_ID, 3L, OTHER_ARTICLE_ID, 5L), () -> { });
+
+        ArticleDetailCache.CachedArticleDetail cached = articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 13));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached.getViewCount()).isEqualTo(13);
+        assertThat(articleDetailCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 캐시된 조회수를 바꾸지 않는다")
+    void failedViewCountUpdateKeepsCachedViewCount() {
+        articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 10));
+
+        try {
+            articleDetailCache.applyViewCounts(Map.of(ARTICLE_ID, 3L), () -> {
+                throw new IllegalStateException("db down");
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        assertThat(articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 10)).getViewCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("조회수를 반영하는 동안 조회한 값은 반영 전후를 알 수 없으므로 캐시에 남기지 않는다")
+    void doesNotCacheLoadOverlappingViewCountUpdate() {
+        articleDetailCache.applyViewCounts(Map.of(ARTICLE_ID, 3L),
+                () -> articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 10)));
+        articleDetailCache.get(OTHER_ARTICLE_ID, () -> {
+            articleDetailCache.applyViewCounts(Map.of(OTHER_ARTICLE_ID, 3L), () -> { });
+            return detail(OTHER_ARTICLE_ID, 10);
+        });
+
+        assertThat(articleDetailCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 무효화는 조회 중인 게시글의 결과를 버리게 하지 않는다")
+    void evictionOfOtherArticleKeepsInFlightLoad() {
+        articleDetailCache.get(ARTICLE_ID, () -> {
+            articleDetailCache.evict(OTHER_ARTICLE_ID);
+            articleDetailCache.applyViewCounts(Map.of(OTHER_ARTICLE_ID, 1L), () -> { });
+            return detail(ARTICLE_ID, 10);
+        });
+
+        articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 10));
+        assertThat(loads.get()).isZero();
+        assertThat(articleDetailCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 중에 같은 게시글이나 작성자가 무효화되면 조회한 값을 캐시에 남기지 않는다")
+    void doesNotCacheLoadInvalidatedDuringLoad() {
+        articleDetailCache.get(ARTICLE_ID, () -> {
+            articleDetailCache.evict(ARTICLE_ID);
+            return detail(ARTICLE_ID, 10);
+        });
+        articleDetailCache.get(OTHER_ARTICLE_ID, () -> {
+            articleDetailCache.evictByWriterId(WRITER_ID);
+            return detail(OTHER_ARTICLE_ID, 10);
+        });
+
+        assertThat(articleDetailCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("작성자 정보가 바뀌면 그 작성자의 게시글만 비운다")
+    void evictByWriterIdRemovesOnlyWritersArticles() {
+        articleDetailCache.get(ARTICLE_ID, loader(ARTICLE_ID, 10));
+        articleDetailCache.get(OTHER_ARTICLE_ID, () -> ArticleDto.builder()
+                .id(OTHER_ARTICLE_ID)
+                .author(AuthorDetail.builder().id(WRITER_ID + 1).build())
+                .build());
+
+        articleDetailCache.evictByWriterId(WRITER_ID);
+
+        assertThat(articleDetailCache.size()).isEqualTo(1);
+        articleDetailCache.get(OTHER_ARTICLE_ID, loader(OTHER_ARTICLE_ID, 0));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private Supplier<ArticleDto> loader(long articleId, int viewCount) {
+        return () -> {
+            loads.incrementAndGet();
+            return detail(articleId, viewCount);
+        };
+    }
+
+    private ArticleDto detail(long articleId, int viewCount) {
+        return ArticleDto.builder()
+                .id(articleId)
+                .author(AuthorDetail.builder().id(WRITER_ID).build())
+                .viewCount(viewCount)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.prgrms.offer.domain.article.service;
+
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.domain.article.model.dto.ArticleDetailResponse;
+import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCountBufferTest {
+
+    private static final long ARTICLE_ID = 1L;
+    private static final int THREAD_COUNT = 8;
+    private static final int INCREASES_PER_THREAD = 10_000;
+
+    private ArticleViewCountBuffer articleViewCountBuffer;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleDetailCache articleDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        PropertyProvider propertyProvider = mock(PropertyProvider.class);
+        given(propertyProvider.getARTICLE_DETAIL_CACHE_MAX_BYTES()).willReturn(1_000_000L);
+        articleDetailCache = new ArticleDetailCache(propertyProvider);
+        articleViewCountBuffer = new ArticleViewCountBuffer(articleRepository, articleDetailCache);
+    }
+
+    @Test
+    @DisplayName("flush 와 동시에 들어온 조회수 증가분도 잃어버리지 않고 모두 반영한다")
+    void keepsIncreasesDuringFlush() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        willAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.values().forEach(flushed::addAndGet);
+            return null;
+        }).given(articleRepository).addViewCounts(anyMap());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < INCREASES_PER_THREAD; j++) {
+                    articleViewCountBuffer.increase(ARTICLE_ID);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            articleViewCountBuffer.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        articleViewCountBuffer.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) THREAD_COUNT * INCREASES_PER_THREAD);
+        assertThat(articleViewCountBuffer.getPendingViewCount(ARTICLE_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 flush 까지 남겨 둔다")
+    void keepsIncreasesWhenFlushFails() {
+        articleViewCountBuffer.increase(ARTICLE_ID);
+        articleViewCountBuffer.increase(ARTICLE_ID);
+        willThrow(new IllegalStateException("db down")).given(articleRepository).addViewCounts(anyMap());
+
+        articleViewCountBuffer.flush();
+
+        assertThat(articleViewCountBuffer.getPendingViewCount(ARTICLE_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("반영한 조회수는 캐시된 상세 정보를 버리지 않고 조회수에만 더한다")
+    void addsFlushedViewCountsToCachedDetail() {
+        AtomicLong loads = new AtomicLong();
+        articleDetailCache.get(ARTICLE_ID, () -> {
+            loads.incrementAndGet();
+            return detail(10);
+        });
+        articleViewCountBuffer.increase(ARTICLE_ID);
+        articleViewCountBuffer.increase(ARTICLE_ID);
+
+        articleViewCountBuffer.flush();
+
+        ArticleDetailCache.CachedArticleDetail cached = articleDetailCache.get(ARTICLE_ID, () -> {
+            loads.incrementAndGet();
+            return detail(12);
+        });
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached.getViewCount() + articleViewCountBuffer.getPendingViewCount(ARTICLE_ID)).isEqualTo(12);
+    }
+
+    private ArticleDetailResponse.ArticleDto detail(int viewCount) {
+        return ArticleDetailResponse.ArticleDto.builder()
+                .id(ARTICLE_ID)
+                .author(ArticleDetailResponse.AuthorDetail.builder().id(1L).build())
+                .viewCount(viewCount)
+                .build();
+    }
+}
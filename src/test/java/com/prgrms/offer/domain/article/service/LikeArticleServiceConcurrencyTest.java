@@ -0,0 +1,82 @@
+package com.prgrms.offer.domain.article.service;
+
+import com.prgrms.offer.common.ConcurrencyTestSupport;
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.domain.article.repository.LikeArticleRepository;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDSLConfig.class, LikeArticleService.class, LikeArticleConverter.class, ArticleDetailCache.class, PropertyProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeArticleServiceConcurrencyTest extends ConcurrencyTestSupport {
+
+    private static final int MEMBER_COUNT = 100;
+
+    @Autowired
+    private LikeArticleService likeArticleService;
+
+    @Autowired
+    private LikeArticleRepository likeArticleRepository;
+
+    LikeArticleServiceConcurrencyTest() {
+        super(MEMBER_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeArticleRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 좋아요를 누르면 like_count는 사용자 수와 같아야 한다")
+    void concurrentLike() throws Exception {
+        switchConcurrently(members);
+
+        assertThat(findLikeCount()).isEqualTo(MEMBER_COUNT);
+        assertThat(likeArticleRepository.count()).isEqualTo(MEMBER_COUNT);
+    }
+
+    @Test
+    @DisplayName("동시에 좋아요와 좋아요 취소가 섞여도 like_count는 실제 좋아요 수와 같아야 한다")
+    void concurrentLikeAndUnlike() throws Exception {
+        switchConcurrently(members);
+
+        // 짝수 번째 사용자만 좋아요를 취소
+        List<Member> unlikeMembers = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i += 2) {
+            unlikeMembers.add(members.get(i));
+        }
+        switchConcurrently(unlikeMembers);
+
+        assertThat(findLikeCount()).isEqualTo(MEMBER_COUNT - unlikeMembers.size());
+        assertThat(likeArticleRepository.count()).isEqualTo(MEMBER_COUNT - unlikeMembers.size());
+    }
+
+    private void switchConcurrently(List<Member> switchingMembers) throws Exception {
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (Member member : switchingMembers) {
+            tasks.add(() -> likeArticleService.switchLikeStatus(article.getId(), authentication(member)));
+        }
+
+        assertThat(runConcurrently(tasks)).containsOnlyNulls();
+    }
+
+    private int findLikeCount() {
+        return articleRepository.findById(article.getId()).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,37 @@
+package com.prgrms.offer.domain.member.service;
+
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.core.jwt.JwtAuthentication;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+class AuthenticatedMembersTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("인증 단계에서 확인한 회원 id 로 회원을 조회한다")
+    void findsByMemberId() {
+        Member member = memberRepository.save(Member.builder().principal("member@offer.com").nickname("member").build());
+
+        assertThat(AuthenticatedMembers.find(memberRepository, new JwtAuthentication("token", "member@offer.com", member.getId())))
+                .hasValueSatisfying(found -> assertThat(found.getId()).isEqualTo(member.getId()));
+    }
+
+    @Test
+    @DisplayName("인증 단계에서 확인한 회원 id 의 회원이 없으면 빈 값을 반환한다")
+    void returnsEmptyWhenMemberIsGone() {
+        assertThat(AuthenticatedMembers.find(memberRepository, new JwtAuthentication("token", "gone@offer.com", Long.MAX_VALUE)))
+                .isEmpty();
+    }
+}
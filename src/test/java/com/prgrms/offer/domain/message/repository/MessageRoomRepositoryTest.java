@@ -0,0 +1,115 @@
+package com.prgrms.offer.domain.message.repository;
+
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.member.repository.MemberRepository;
+import com.prgrms.offer.domain.message.model.entity.Message;
+import com.prgrms.offer.domain.message.model.entity.MessageRoom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(QueryDSLConfig.class)
+class MessageRoomRepositoryTest {
+
+    @Autowired
+    private MessageRoomRepository messageRoomRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private int roomSequence;
+
+    @Test
+    @DisplayName("쪽지가 없는 대화방은 쪽지함 목록과 전체 개수에서 모두 제외된다")
+    void messageBoxCountsOnlyRoomsWithMessages() {
+        Member me = memberRepository.save(Member.builder().principal("me@offer.com").nickname("me").build());
+        for (int i = 0; i < 3; i++) {
+            Member partner = memberRepository.save(Member.builder().principal("partner" + i + "@offer.com").nickname("partner" + i).build());
+            MessageRoom messageRoom = messageRoomRepository.save(new MessageRoom(me, partner, null, null));
+            if (i < 2) {
+                messageRoomRepository.updateLastMessage(saveMessage(messageRoom, "message" + i));
+            }
+        }
+
+        Page<MessageRoomWithLastMessage> firstPage = messageRoomRepository.findMessageBoxByMemberId(me.getId(), PageRequest.of(0, 1));
+        Page<MessageRoomWithLastMessage> secondPage = messageRoomRepository.findMessageBoxByMemberId(me.getId(), PageRequest.of(1, 1));
+
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getTotalPages()).isEqualTo(2);
+        assertThat(secondPage.getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("더 오래된 쪽지로는 대화방의 마지막 쪽지 정보를 덮어쓰지 않는다")
+    void updateLastMessageNeverMovesBackwards() {
+        MessageRoom messageRoom = saveMessageRoom();
+        Message older = saveMessage(messageRoom, "older");
+        Message newer = saveMessage(messageRoom, "newer");
+
+        assertThat(messageRoomRepository.updateLastMessage(newer)).isEqualTo(1);
+        assertThat(messageRoomRepository.updateLastMessage(older)).isZero();
+
+        entityManager.clear();
+        MessageRoom found = messageRoomRepository.findById(messageRoom.getMessageRoomId()).orElseThrow();
+        assertThat(found.getLastMessageId()).isEqualTo(newer.getMessageId());
+        assertThat(found.getLastMessagePreview()).isEqualTo("newer");
+    }
+
+    @Test
+    @DisplayName("backfill 스크립트는 마지막 쪽지 정보가 없는 기존 대화방을 가장 최근 쪽지로 채운다")
+    void backfillFillsLegacyRooms() {
+        MessageRoom legacy = saveMessageRoom();
+        saveMessage(legacy, "first");
+        Message last = saveMessage(legacy, "x".repeat(150));
+        MessageRoom empty = saveMessageRoom();
+
+        new ResourceDatabasePopulator(new ClassPathResource("sql/message_room_last_message_backfill.sql"))
+                .execute(dataSource);
+
+        entityManager.clear();
+        MessageRoom filled = messageRoomRepository.findById(legacy.getMessageRoomId()).orElseThrow();
+        assertThat(filled.getLastMessageId()).isEqualTo(last.getMessageId());
+        assertThat(filled.getLastMessageAt()).isEqualTo(last.getCreatedDate());
+        assertThat(filled.getLastMessagePreview()).isEqualTo(MessageRoom.toLastMessagePreview(last.getContent()));
+        assertThat(messageRoomRepository.findById(empty.getMessageRoomId()).orElseThrow().getLastMessageId()).isNull();
+    }
+
+    private MessageRoom saveMessageRoom() {
+        Member me = memberRepository.save(Member.builder().principal("room" + roomSequence + "@offer.com").nickname("room" + roomSequence).build());
+        Member partner = memberRepository.save(Member.builder().principal("partner-room" + roomSequence + "@offer.com").nickname("partner-room" + roomSequence).build());
+        roomSequence++;
+        return messageRoomRepository.save(new MessageRoom(me, partner, null, null));
+    }
+
+    private Message saveMessage(MessageRoom messageRoom, String content) {
+        return messageRepository.save(Message.builder()
+                .messageRoom(messageRoom)
+                .content(content)
+                .createdDate(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .build());
+    }
+}
@@ -0,0 +1,257 @@
+package com.prgrms.offer.domain.offer.service;
+
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.domain.offer.model.dto.OfferBriefResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class OfferFeedHubTest {
+
+    private static final long ARTICLE_ID = 1L;
+    private static final long OTHER_ARTICLE_ID = 2L;
+    private static final int BUFFER_SIZE = 4;
+    private static final int MAX_SUBSCRIBERS_PER_ARTICLE = 3;
+    private static final int MAX_SUBSCRIBERS = 4;
+    private static final int DISPATCH_THREADS = 2;
+    private static final long SEND_TIMEOUT_MILLIS = 200L;
+
+    private OfferFeedHub offerFeedHub;
+
+    @BeforeEach
+    void setUp() {
+        PropertyProvider propertyProvider = mock(PropertyProvider.class);
+        given(propertyProvider.getOFFER_FEED_BUFFER_SIZE()).willReturn(BUFFER_SIZE);
+        given(propertyProvider.getOFFER_FEED_TIMEOUT_MILLIS()).willReturn(60_000L);
+        given(propertyProvider.getOFFER_FEED_DISPATCH_THREADS()).willReturn(DISPATCH_THREADS);
+        given(propertyProvider.getOFFER_FEED_SEND_TIMEOUT_MILLIS()).willReturn(SEND_TIMEOUT_MILLIS);
+        given(propertyProvider.getOFFER_FEED_MAX_SUBSCRIBERS_PER_ARTICLE()).willReturn(MAX_SUBSCRIBERS_PER_ARTICLE);
+        given(propertyProvider.getOFFER_FEED_MAX_SUBSCRIBERS()).willReturn(MAX_SUBSCRIBERS);
+
+        offerFeedHub = new OfferFeedHub(propertyProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        offerFeedHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 구독자가 전송 중이어도 다른 구독자는 제안과 heartbeat 를 받고, 발행과 heartbeat 는 기다리지 않는다")
+    void slowSubscriberDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        offerFeedHub.subscribe(ARTICLE_ID, slow);
+        offerFeedHub.subscribe(ARTICLE_ID, fast);
+
+        offerFeedHub.publish(ARTICLE_ID, offer(1L));
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        offerFeedHub.publish(ARTICLE_ID, offer(2L));
+        offerFeedHub.heartbeat();
+
+        assertThat(fast.awaitEvents(3)).isTrue();
+        assertThat(fast.events).anyMatch(event -> event.contains("heartbeat"));
+        assertThat(fast.events.stream().filter(event -> event.contains(OfferFeedHub.OFFER_EVENT)).collect(Collectors.toList()))
+                .hasSize(2);
+
+        release.countDown();
+        assertThat(slow.awaitEvents(3)).isTrue();
+        assertThat(slow.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("전송 스레드보다 많은 구독자의 전송이 멈춰도, 전송 시간을 넘긴 구독자를 빼고 다른 구독자에게 계속 보낸다")
+    void stalledSubscribersDoNotHoldDispatchThreads() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<RecordingEmitter> stalled = List.of(
+                new RecordingEmitter(release), new RecordingEmitter(release), new RecordingEmitter(release));
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        stalled.forEach(emitter -> offerFeedHub.subscribe(ARTICLE_ID, emitter));
+        offerFeedHub.subscribe(OTHER_ARTICLE_ID, healthy);
+
+        // 전송 스레드 두 개가 모두 멈춘 전송에 붙잡히고, 나머지 전송은 대기열에서 기다림
+        offerFeedHub.publish(ARTICLE_ID, offer(1L));
+        assertThat(awaitSending(stalled, DISPATCH_THREADS)).isTrue();
+        offerFeedHub.publish(OTHER_ARTICLE_ID, offer(2L));
+        assertThat(healthy.awaitEvents(1, SEND_TIMEOUT_MILLIS / 2)).isFalse();
+
+        Thread.sleep(SEND_TIMEOUT_MILLIS);
+        offerFeedHub.heartbeat();
+
+        assertThat(healthy.awaitEvents(1)).isTrue();
+        assertThat(awaitSending(stalled, stalled.size())).isTrue();
+
+        Thread.sleep(SEND_TIMEOUT_MILLIS);
+        offerFeedHub.heartbeat();
+        assertThat(offerFeedHub.hasSubscribers(ARTICLE_ID)).isFalse();
+        assertThat(offerFeedHub.hasSubscribers(OTHER_ARTICLE_ID)).isTrue();
+
+        // 멈췄던 전송이 끝나면 연결을 닫고, 건강한 구독자에게는 계속 보냄
+        release.countDown();
+        for (RecordingEmitter emitter : stalled) {
+            assertThat(emitter.completion.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        offerFeedHub.publish(OTHER_ARTICLE_ID, offer(3L));
+        assertThat(healthy.awaitEvents(1)).isTrue();
+        assertThat(healthy.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("버퍼를 넘길 만큼 따라가지 못하는 구독자는 연결을 끊고 구독자에서 뺀다")
+    void closesSubscriberWhenBufferOverflows() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        offerFeedHub.subscribe(ARTICLE_ID, slow);
+
+        offerFeedHub.publish(ARTICLE_ID, offer(0L));
+        assertThat(slow.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long id = 1; id <= BUFFER_SIZE + 1; id++) {
+            offerFeedHub.publish(ARTICLE_ID, offer(id));
+        }
+
+        assertThat(slow.completed).isTrue();
+        assertThat(offerFeedHub.hasSubscribers(ARTICLE_ID)).isFalse();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("완료되거나 시간이 지난 연결은 구독자에서 빠지고 자리를 돌려준다")
+    void removesCompletedOrTimedOutSubscriber() {
+        RecordingEmitter completed = new RecordingEmitter(null);
+        RecordingEmitter timedOut = new RecordingEmitter(null);
+        offerFeedHub.subscribe(ARTICLE_ID, completed);
+        offerFeedHub.subscribe(OTHER_ARTICLE_ID, timedOut);
+
+        completed.completionCallback.run();
+        timedOut.timeoutCallback.run();
+        // 완료 콜백이 한 번 더 불려도 자리를 두 번 돌려주지 않음
+        timedOut.completionCallback.run();
+
+        assertThat(offerFeedHub.hasSubscribers(ARTICLE_ID)).isFalse();
+        assertThat(offerFeedHub.hasSubscribers(OTHER_ARTICLE_ID)).isFalse();
+        for (int i = 0; i < MAX_SUBSCRIBERS_PER_ARTICLE; i++) {
+            offerFeedHub.subscribe(ARTICLE_ID, new RecordingEmitter(null));
+        }
+        offerFeedHub.subscribe(OTHER_ARTICLE_ID, new RecordingEmitter(null));
+        assertThrows(BusinessException.class, () -> offerFeedHub.subscribe(OTHER_ARTICLE_ID, new RecordingEmitter(null)));
+    }
+
+    @Test
+    @DisplayName("게시글별, 전체 구독자 수를 넘는 구독은 거절한다")
+    void rejectsSubscribersAboveLimits() {
+        for (int i = 0; i < MAX_SUBSCRIBERS_PER_ARTICLE; i++) {
+            offerFeedHub.subscribe(ARTICLE_ID, new RecordingEmitter(null));
+        }
+
+        BusinessException perArticle = assertThrows(BusinessException.class,
+                () -> offerFeedHub.subscribe(ARTICLE_ID, new RecordingEmitter(null)));
+
+        offerFeedHub.subscribe(OTHER_ARTICLE_ID, new RecordingEmitter(null));
+        BusinessException global = assertThrows(BusinessException.class,
+                () -> offerFeedHub.subscribe(OTHER_ARTICLE_ID, new RecordingEmitter(null)));
+
+        assertThat(perArticle.getResponseMessage()).isEqualTo(ResponseMessage.OFFER_FEED_SUBSCRIBER_LIMIT_EXCEEDED);
+        assertThat(global.getResponseMessage()).isEqualTo(ResponseMessage.OFFER_FEED_SUBSCRIBER_LIMIT_EXCEEDED);
+    }
+
+    private boolean awaitSending(List<RecordingEmitter> emitters, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitters.stream().filter(emitter -> emitter.sending.getCount() == 0).count() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private OfferBriefResponse offer(Long id) {
+        return OfferBriefResponse.builder().id(id).articleId(ARTICLE_ID).price(1_000).build();
+    }
+
+    // 실제 연결 없이 보낸 이벤트를 기록하고, release 가 주어지면 열릴 때까지 전송을 붙잡아 느린 연결을 흉내냄
+    // (interrupt 에도 풀리지 않는 블로킹 write 처럼 release 가 열리거나 10초가 지날 때까지 기다림)
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final Semaphore received = new Semaphore(0);
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch completion = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        private volatile boolean completed;
+        private volatile Runnable completionCallback;
+        private volatile Runnable timeoutCallback;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            if (release != null) {
+                awaitReleaseUninterruptibly();
+            }
+            events.add(builder.build().stream().map(data -> String.valueOf(data.getData())).collect(Collectors.joining()));
+            received.release();
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            completion.countDown();
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallback = callback;
+        }
+
+        private boolean awaitEvents(int count) throws InterruptedException {
+            return awaitEvents(count, 5_000L);
+        }
+
+        private boolean awaitEvents(int count, long timeoutMillis) throws InterruptedException {
+            return received.tryAcquire(count, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void awaitReleaseUninterruptibly() {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.prgrms.offer.domain.offer.service;
+
+import com.prgrms.offer.common.ConcurrencyTestSupport;
+import com.prgrms.offer.common.message.ResponseMessage;
+import com.prgrms.offer.core.config.PropertyProvider;
+import com.prgrms.offer.core.config.QueryDSLConfig;
+import com.prgrms.offer.core.error.exception.BusinessException;
+import com.prgrms.offer.domain.member.model.entity.Member;
+import com.prgrms.offer.domain.offer.model.dto.OfferCreateRequest;
+import com.prgrms.offer.domain.offer.repository.OfferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({QueryDSLConfig.class, OfferService.class, OfferConverter.class, OfferFeedHub.class, PropertyProvider.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OfferServiceConcurrencyTest extends ConcurrencyTestSupport {
+
+    private static final int MEMBER_COUNT = 10;
+    private static final int REQUESTS_PER_MEMBER = 8;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private OfferService offerService;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private PropertyProvider propertyProvider;
+
+    OfferServiceConcurrencyTest() {
+        super(MEMBER_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        offerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 제안해도 제안 횟수는 최대 제안 횟수를 넘지 않는다")
+    void concurrentOffersNeverExceedMaxCount() throws Exception {
+        int maxCount = propertyProvider.getMAX_AVAIL_OFFER_COUNT();
+
+        List<ResponseMessage> failures = new ArrayList<>();
+        int succeeded = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<ResponseMessage> results = offerConcurrently(round);
+            succeeded += (int) results.stream().filter(result -> result == null).count();
+            results.stream().filter(result -> result != null).forEach(failures::add);
+
+            assertThat(offerCountsByOfferer().values()).allMatch(count -> count <= maxCount);
+        }
+
+        // round 마다 비어 있는 다음 번째 제안 중 하나는 저장되므로, 마지막에는 모두 최대 횟수만큼 제안한 상태
+        assertThat(offerCountsByOfferer()).hasSize(MEMBER_COUNT).allSatisfy((offererId, count) -> assertThat(count).isEqualTo(maxCount));
+        assertThat(offerRepository.count()).isEqualTo(succeeded).isEqualTo((long) MEMBER_COUNT * maxCount);
+        // 경합이 없었던 round 에서는 CONCURRENT_OFFER 가 나오지 않을 수도 있음
+        assertThat(failures).isSubsetOf(ResponseMessage.CONCURRENT_OFFER, ResponseMessage.EXCEED_OFFER_COUNT);
+    }
+
+    @Test
+    @DisplayName("이미 최대 횟수만큼 제안했다면 저장하지 않고 거절한다")
+    void rejectsWhenMaxCountReached() {
+        Member member = members.get(0);
+        int maxCount = propertyProvider.getMAX_AVAIL_OFFER_COUNT();
+        for (int i = 1; i <= maxCount; i++) {
+            offerService.offer(offerRequest(i * 1_000), article.getId(), authentication(member));
+        }
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> offerService.offer(offerRequest(99_000), article.getId(), authentication(member)));
+
+        assertThat(exception.getResponseMessage()).isEqualTo(ResponseMessage.EXCEED_OFFER_COUNT);
+        assertThat(offerRepository.count()).isEqualTo(maxCount);
+    }
+
+    @Test
+    @DisplayName("없는 게시글에 제안하면 저장하지 않고 게시글이 없다고 거절한다")
+    void rejectsOfferToMissingArticle() {
+        long missingArticleId = article.getId() + 1_000;
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> offerService.offer(offerRequest(1_000), missingArticleId, authentication(members.get(0))));
+
+        assertThat(exception.getResponseMessage()).isEqualTo(ResponseMessage.ARTICLE_NOT_FOUND);
+        assertThat(offerRepository.count()).isZero();
+    }
+
+    // 각 사용자의 요청을 모두 동시에 시작시키고, 요청마다 성공이면 null, 실패면 응답 메시지를 반환
+    private List<ResponseMessage> offerConcurrently(int round) throws Exception {
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < REQUESTS_PER_MEMBER; i++) {
+            int price = (round * REQUESTS_PER_MEMBER + i + 1) * 1_000;
+            for (Member member : members) {
+                tasks.add(() -> offerService.offer(offerRequest(price), article.getId(), authentication(member)));
+            }
+        }
+
+        List<ResponseMessage> results = new ArrayList<>();
+        for (Throwable failure : runConcurrently(tasks)) {
+            if (failure == null) {
+                results.add(null);
+                continue;
+            }
+            assertThat(failure).isInstanceOf(BusinessException.class);
+            results.add(((BusinessException) failure).getResponseMessage());
+        }
+        return results;
+    }
+
+    private Map<Long, Long> offerCountsByOfferer() {
+        return offerRepository.findAll().stream()
+                .collect(Collectors.groupingBy(offer -> offer.getOfferer().getId(), Collectors.counting()));
+    }
+
+    private OfferCreateRequest offerRequest(int price) {
+        OfferCreateRequest request = new OfferCreateRequest();
+        ReflectionTestUtils.setField(request, "price", price);
+        return request;
+    }
+}
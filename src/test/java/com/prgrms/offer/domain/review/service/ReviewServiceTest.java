@@ -4,6 +4,7 @@ import com.prgrms.offer.core.config.PropertyProvider;
 import com.prgrms.offer.core.jwt.JwtAuthentication;
 import com.prgrms.offer.domain.article.model.entity.Article;
 import com.prgrms.offer.domain.article.repository.ArticleRepository;
+import com.prgrms.offer.domain.article.service.ArticleDetailCache;
 import com.prgrms.offer.domain.member.model.entity.Member;
 import com.prgrms.offer.domain.member.repository.MemberRepository;
 import com.prgrms.offer.domain.offer.repository.OfferRepository;
@@ -50,6 +51,9 @@ class ReviewServiceTest {
     @Mock
     private ReviewConverter converter;
 
+    @Mock
+    private ArticleDetailCache articleDetailCache;
+
     @Mock
     private PropertyProvider propertyProvider;
 